@@ -0,0 +1,69 @@
+package site.paircoding.gateway;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 호스트의 서브도메인으로 프로젝트 NodePort 를 찾아 요청 대상 주소를 바꿈
+ * <p>
+ * 라우트의 uri 로 정해진 주소를 덮어쓰므로 {@link RouteToRequestUrlFilter} 다음에 실행됩니다. 웹소켓 업그레이드 요청은 이후
+ * WebsocketRoutingFilter 가 ws 로 바꿔 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectRoutingFilter implements GlobalFilter, Ordered {
+
+  @Value("${routing.domain}")
+  private String domain;
+
+  // 프로젝트 NodePort 로 접근할 쿠버네티스 노드 주소
+  @Value("${routing.upstream-host}")
+  private String upstreamHost;
+
+  private final RouteTable routeTable;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    URI requestUri = exchange.getRequest().getURI();
+    String subdomain = subdomainOf(requestUri.getHost());
+    Integer nodePort = subdomain != null ? routeTable.get(subdomain) : null;
+    if (nodePort == null) {
+      exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+      return exchange.getResponse().setComplete();
+    }
+
+    URI upstreamUri = UriComponentsBuilder.fromUri(requestUri)
+        .scheme("http")
+        .host(upstreamHost)
+        .port(nodePort)
+        .build(true)
+        .toUri();
+    exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, upstreamUri);
+    return chain.filter(exchange);
+  }
+
+  @Override
+  public int getOrder() {
+    return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
+  }
+
+  String subdomainOf(String host) {
+    String suffix = "." + domain;
+    if (host == null || !host.endsWith(suffix)) {
+      return null;
+    }
+    return host.substring(0, host.length() - suffix.length());
+  }
+}
@@ -0,0 +1,87 @@
+package site.paircoding.gateway;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+/**
+ * 서브도메인 -> NodePort 메모리 라우팅 테이블
+ * <p>
+ * 시작할 때 백엔드가 관리하는 Redis 해시 전체를 읽고, 이후에는 변경 채널 메시지({@code put:서브도메인:포트}, {@code delete:서브도메인})를
+ * 바로 반영합니다. 놓친 메시지가 있어도 주기적으로 전체를 다시 읽어 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteTable {
+
+  // 백엔드 ProjectRouteRegistry 와 같은 값을 사용해야 함
+  private static final String ROUTES_KEY = "projectRoutes";
+  private static final String ROUTES_CHANNEL = "projectRoutes:changed";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final ReactiveRedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final Map<String, Integer> routes = new ConcurrentHashMap<>();
+  private Disposable subscription;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    subscription = redisMessageListenerContainer.receive(ChannelTopic.of(ROUTES_CHANNEL))
+        .map(ReactiveSubscription.Message::getMessage)
+        .subscribe(this::apply, e -> log.error("Route subscription failed", e));
+    resync();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  /**
+   * @return 서브도메인의 NodePort, 등록되지 않았으면 null
+   */
+  public Integer get(String subdomain) {
+    return routes.get(subdomain);
+  }
+
+  @Scheduled(fixedDelayString = "${routing.resync-ms:60000}",
+      initialDelayString = "${routing.resync-ms:60000}")
+  public void resync() {
+    redisTemplate.<String, String>opsForHash().entries(ROUTES_KEY)
+        .collectMap(Map.Entry::getKey, entry -> Integer.valueOf(entry.getValue()))
+        .subscribe(snapshot -> {
+          routes.keySet().retainAll(snapshot.keySet());
+          routes.putAll(snapshot);
+          log.debug("Routes resynced: {}", routes.size());
+        }, e -> log.warn("Failed to resync routes", e));
+  }
+
+  void apply(String message) {
+    String[] parts = message.split(":");
+    try {
+      if (parts[0].equals("put") && parts.length == 3) {
+        routes.put(parts[1], Integer.valueOf(parts[2]));
+      } else if (parts[0].equals("delete") && parts.length == 2) {
+        routes.remove(parts[1]);
+      } else {
+        log.warn("Unknown route message: {}", message);
+      }
+    } catch (NumberFormatException e) {
+      log.warn("Invalid route message: {}", message);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package site.paircoding.gateway;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@SpringBootApplication
+public class RoutingGatewayApplication {
+
+  public static void main(String[] args) {
+    SpringApplication.run(RoutingGatewayApplication.class, args);
+  }
+}
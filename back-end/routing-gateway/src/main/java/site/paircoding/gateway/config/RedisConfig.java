@@ -0,0 +1,16 @@
+package site.paircoding.gateway.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+  @Bean
+  public ReactiveRedisMessageListenerContainer redisMessageListenerContainer(
+      ReactiveRedisConnectionFactory connectionFactory) {
+    return new ReactiveRedisMessageListenerContainer(connectionFactory);
+  }
+}
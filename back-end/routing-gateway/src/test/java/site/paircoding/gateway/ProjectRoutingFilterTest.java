@@ -0,0 +1,76 @@
+package site.paircoding.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+class ProjectRoutingFilterTest {
+
+  private final RouteTable routeTable = new RouteTable(mock(ReactiveStringRedisTemplate.class),
+      mock(ReactiveRedisMessageListenerContainer.class));
+  private final AtomicBoolean chained = new AtomicBoolean();
+  private final GatewayFilterChain chain = exchange -> {
+    chained.set(true);
+    return Mono.empty();
+  };
+
+  private ProjectRoutingFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = new ProjectRoutingFilter(routeTable);
+    ReflectionTestUtils.setField(filter, "domain", "pading.site");
+    ReflectionTestUtils.setField(filter, "upstreamHost", "10.0.0.1");
+  }
+
+  @Test
+  void extractsSubdomain() {
+    assertThat(filter.subdomainOf("pading-abc.pading.site")).isEqualTo("pading-abc");
+    assertThat(filter.subdomainOf("a.b.pading.site")).isEqualTo("a.b");
+  }
+
+  @Test
+  void rejectsHostsOutsideDomain() {
+    assertThat(filter.subdomainOf("pading.site")).isNull();
+    assertThat(filter.subdomainOf("pading-abc.other.site")).isNull();
+    assertThat(filter.subdomainOf("evilpading.site")).isNull();
+    assertThat(filter.subdomainOf(null)).isNull();
+  }
+
+  @Test
+  void rewritesRequestToProjectNodePort() {
+    routeTable.apply("put:pading-abc:30001");
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.get("https://pading-abc.pading.site/api/items?page=2").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat(chained).isTrue();
+    assertThat((URI) exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR))
+        .isEqualTo(URI.create("http://10.0.0.1:30001/api/items?page=2"));
+  }
+
+  @Test
+  void respondsNotFoundForUnknownProject() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.get("https://pading-missing.pading.site/").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat(chained).isFalse();
+    assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+}
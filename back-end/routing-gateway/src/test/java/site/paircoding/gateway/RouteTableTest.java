@@ -0,0 +1,51 @@
+package site.paircoding.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+class RouteTableTest {
+
+  private final RouteTable routeTable = new RouteTable(mock(ReactiveStringRedisTemplate.class),
+      mock(ReactiveRedisMessageListenerContainer.class));
+
+  @Test
+  void putsRoute() {
+    routeTable.apply("put:pading-abc:30001");
+
+    assertThat(routeTable.get("pading-abc")).isEqualTo(30001);
+  }
+
+  @Test
+  void overwritesRoute() {
+    routeTable.apply("put:pading-abc:30001");
+    routeTable.apply("put:pading-abc:30002");
+
+    assertThat(routeTable.get("pading-abc")).isEqualTo(30002);
+  }
+
+  @Test
+  void deletesRoute() {
+    routeTable.apply("put:pading-abc:30001");
+    routeTable.apply("delete:pading-abc");
+
+    assertThat(routeTable.get("pading-abc")).isNull();
+  }
+
+  @Test
+  void ignoresMalformedMessages() {
+    routeTable.apply("put:pading-abc:30001");
+
+    routeTable.apply("put:pading-abc:not-a-port");
+    routeTable.apply("put:pading-abc");
+    routeTable.apply("delete:pading-abc:30001");
+    routeTable.apply("rename:pading-abc:pading-def");
+    routeTable.apply("");
+
+    assertThat(routeTable.get("pading-abc")).isEqualTo(30001);
+    assertThat(routeTable.get("pading-def")).isNull();
+  }
+}
@@ -0,0 +1,80 @@
+package site.paircoding.paircoding.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+  // 프로젝트 생성 작업 - 큐가 가득 차면 작업은 DB 에 남아 스케줄러가 이어서 실행
+  @Bean
+  public ThreadPoolTaskExecutor provisioningExecutor(
+      @Value("${provisioning.pool-size:4}") int poolSize,
+      @Value("${provisioning.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("provisioning-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  // 프로젝트 삭제, 켜기/끄기의 외부 부수 효과 - 큐가 가득 차면 이벤트는 DB 에 남아 스케줄러가 이어서 실행
+  @Bean
+  public ThreadPoolTaskExecutor outboxExecutor(
+      @Value("${outbox.pool-size:4}") int poolSize,
+      @Value("${outbox.queue-capacity:200}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("outbox-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  // 쿠버네티스 리소스 생성/대기를 동시에 실행 - 큐가 가득 차면 호출한 스레드에서 실행
+  @Bean
+  public ThreadPoolTaskExecutor kubernetesExecutor(
+      @Value("${kubernetes.executor.pool-size:8}") int poolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(poolSize * 4);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("kubernetes-");
+    return executor;
+  }
+
+  // 여러 Deployment 의 replica 일괄 변경 - 준비 대기로 오래 점유되는 kubernetesExecutor 와 분리
+  @Bean
+  public ThreadPoolTaskExecutor scalingExecutor(
+      @Value("${kubernetes.scaling.pool-size:4}") int poolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(poolSize * 4);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("scaling-");
+    return executor;
+  }
+
+  // 그룹 삭제 작업
+  @Bean
+  public ThreadPoolTaskExecutor teardownExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(50);
+    executor.setThreadNamePrefix("teardown-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+}
@@ -0,0 +1,30 @@
+package site.paircoding.paircoding.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.service.ProjectCatalogService;
+
+/**
+ * 프로젝트 카탈로그 다시 읽기 - 새 이미지나 사양을 DB 에 추가한 뒤 호출
+ * <p>
+ * 인증 없이 열려 있는 사용자 API 대신 actuator 엔드포인트로만 제공합니다. 관리 포트({@code management.server.port})에서
+ * {@code management.endpoints.web.exposure.include} 에 catalog 를 추가해야 {@code POST /actuator/catalog} 로 호출할 수
+ * 있습니다.
+ */
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class ProjectCatalogEndpoint {
+
+  private final ProjectCatalogService projectCatalogService;
+
+  /**
+   * @return 카탈로그가 바뀌었으면 true
+   */
+  @WriteOperation
+  public boolean refresh() {
+    return projectCatalogService.refresh();
+  }
+}
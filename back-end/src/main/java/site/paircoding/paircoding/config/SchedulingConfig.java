@@ -0,0 +1,29 @@
+package site.paircoding.paircoding.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+  // 웹소켓 브로커 스케줄러와 구분되도록 taskScheduler 이름으로 등록
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(4);
+    scheduler.setThreadNamePrefix("scheduler-");
+    return scheduler;
+  }
+
+  // nginx 설정 반영 전용 - SSH 명령이 오래 걸려도 다른 스케줄 작업을 막지 않도록 분리
+  @Bean
+  public ThreadPoolTaskScheduler nginxReloadScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("nginx-reload-");
+    return scheduler;
+  }
+}
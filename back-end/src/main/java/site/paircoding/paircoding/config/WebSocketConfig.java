@@ -20,6 +20,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   public void configureMessageBroker(MessageBrokerRegistry config) {
     config.enableSimpleBroker("/sub"); // 메세지 받을 때
     config.setApplicationDestinationPrefixes("/pub"); // 메세지 보낼때
+    // 같은 세션으로 보내는 메시지는 보낸 순서대로 전달 (공동 편집 연산 순서 보장)
+    config.setPreservePublishOrder(true);
   }
 
   @Override
@@ -3,6 +3,7 @@ package site.paircoding.paircoding.controller;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
@@ -15,6 +16,7 @@ import site.paircoding.paircoding.entity.dto.DirectoryExceptionDto;
 import site.paircoding.paircoding.entity.dto.DirectoryListDto;
 import site.paircoding.paircoding.entity.dto.DirectoryRenameDto;
 import site.paircoding.paircoding.entity.dto.DirectorySaveDto;
+import site.paircoding.paircoding.global.exception.TooManyRequestsException;
 import site.paircoding.paircoding.global.exception.WebsocketException;
 import site.paircoding.paircoding.service.DirectoryService;
 
@@ -70,8 +72,9 @@ public class DirectoryController {
   @MessageMapping("/groups/{groupId}/projects/{projectId}/users/{userId}/directory/save")
   @SendTo("/sub/groups/{groupId}/projects/{projectId}/users/all/directory")
   public DirectorySaveDto save(@DestinationVariable("groupId") Integer groupId,
-      @DestinationVariable("projectId") Integer projectId, DirectorySaveDto dto) {
-    return directoryService.save(groupId, projectId, dto);
+      @DestinationVariable("projectId") Integer projectId,
+      @Header("simpSessionId") String sessionId, DirectorySaveDto dto) {
+    return directoryService.save(groupId, projectId, sessionId, dto);
   }
 
   @MessageExceptionHandler(WebsocketException.class)
@@ -80,6 +83,13 @@ public class DirectoryController {
     return new DirectoryExceptionDto("File system error: " + e.getMessage());
   }
 
+  // 쿠버네티스 API 한도 초과 - 요청을 처리하지 않았으므로 다시 시도하도록 알림
+  @MessageExceptionHandler(TooManyRequestsException.class)
+  @SendTo("/sub/groups/{groupId}/projects/{projectId}/directory")
+  public DirectoryExceptionDto handleTooManyRequestsException(Exception e) {
+    return new DirectoryExceptionDto("Server is busy - try again shortly");
+  }
+
   @MessageExceptionHandler(KubernetesClientException.class)
   @SendTo("/sub/groups/{groupId}/projects/{projectId}/directory")
   public DirectoryExceptionDto handleKubernetesClientException(Exception e) {
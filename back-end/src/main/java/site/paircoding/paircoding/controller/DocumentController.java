@@ -0,0 +1,69 @@
+package site.paircoding.paircoding.controller;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+import site.paircoding.paircoding.entity.dto.DirectoryExceptionDto;
+import site.paircoding.paircoding.entity.dto.DocumentOpenDto;
+import site.paircoding.paircoding.entity.dto.DocumentOperationDto;
+import site.paircoding.paircoding.global.exception.TooManyRequestsException;
+import site.paircoding.paircoding.global.exception.WebsocketException;
+import site.paircoding.paircoding.service.DocumentService;
+
+@Controller
+@RequiredArgsConstructor
+public class DocumentController {
+
+  private final DocumentService documentService;
+  private final SimpMessagingTemplate messagingTemplate;
+
+  // 공동 편집 문서 열기 - 현재 내용과 리비전을 요청한 유저에게만 전송
+  @MessageMapping("/groups/{groupId}/projects/{projectId}/users/{userId}/document/open")
+  public void open(@DestinationVariable("groupId") Integer groupId,
+      @DestinationVariable("projectId") Integer projectId,
+      @DestinationVariable("userId") Integer userId, DocumentOpenDto dto) {
+    messagingTemplate.convertAndSend(
+        "/sub/groups/" + groupId + "/projects/" + projectId + "/users/" + userId + "/document",
+        documentService.open(groupId, projectId, dto));
+  }
+
+  // 편집 연산 - 변환된 연산을 프로젝트 전체에 전송 (보낸 클라이언트는 clientId 로 ack 확인)
+  @MessageMapping("/groups/{groupId}/projects/{projectId}/users/{userId}/document/edit")
+  public void edit(@DestinationVariable("groupId") Integer groupId,
+      @DestinationVariable("projectId") Integer projectId,
+      @DestinationVariable("userId") Integer userId, DocumentOperationDto dto) {
+    dto.setUserId(userId);
+    documentService.edit(groupId, projectId, dto);
+  }
+
+  @MessageExceptionHandler(WebsocketException.class)
+  @SendTo("/sub/groups/{groupId}/projects/{projectId}/users/{userId}/document")
+  public DirectoryExceptionDto handleWebsocketException(Exception e) {
+    return new DirectoryExceptionDto("Document error: " + e.getMessage());
+  }
+
+  // 쿠버네티스 API 한도 초과 - 요청을 처리하지 않았으므로 다시 시도하도록 알림
+  @MessageExceptionHandler(TooManyRequestsException.class)
+  @SendTo("/sub/groups/{groupId}/projects/{projectId}/users/{userId}/document")
+  public DirectoryExceptionDto handleTooManyRequestsException(Exception e) {
+    return new DirectoryExceptionDto("Server is busy - try again shortly");
+  }
+
+  @MessageExceptionHandler(KubernetesClientException.class)
+  @SendTo("/sub/groups/{groupId}/projects/{projectId}/users/{userId}/document")
+  public DirectoryExceptionDto handleKubernetesClientException(Exception e) {
+    return new DirectoryExceptionDto("Internal Server Error");
+  }
+
+  @MessageExceptionHandler(Exception.class)
+  @SendTo("/sub/groups/{groupId}/projects/{projectId}/users/{userId}/document")
+  public DirectoryExceptionDto handleException(Exception e) {
+    e.printStackTrace();
+    return new DirectoryExceptionDto("Internal Server Error");
+  }
+}
@@ -21,6 +21,7 @@ import site.paircoding.paircoding.entity.dto.CreateGroupRequest;
 import site.paircoding.paircoding.entity.dto.DuplicateResponse;
 import site.paircoding.paircoding.entity.dto.GroupDto;
 import site.paircoding.paircoding.entity.dto.GroupInvitationDto;
+import site.paircoding.paircoding.entity.dto.GroupTeardownStatus;
 import site.paircoding.paircoding.entity.dto.GroupUserResponse;
 import site.paircoding.paircoding.entity.dto.GroupUsersResponse;
 import site.paircoding.paircoding.entity.dto.GroupsResponse;
@@ -75,9 +76,17 @@ public class GroupController {
 
   @GroupRoleCheck(Role.OWNER)
   @DeleteMapping("{groupId}")
-  public ApiResponse<Void> deleteGroup(@PathVariable("groupId") Integer groupId) {
-    groupService.deleteGroup(groupId);
-    return ApiResponse.success();
+  public ApiResponse<GroupTeardownStatus> deleteGroup(@LoginUser User user,
+      @PathVariable("groupId") Integer groupId) {
+    return ApiResponse.success(groupService.deleteGroup(user, groupId));
+  }
+
+  // 그룹 삭제 후 리소스 정리 진행 상태 조회 (그룹 유저가 삭제되므로 요청한 유저 기준으로 확인)
+  @LoginCheck
+  @GetMapping("{groupId}/deletion")
+  public ApiResponse<GroupTeardownStatus> getGroupDeletion(@LoginUser User user,
+      @PathVariable("groupId") Integer groupId) {
+    return ApiResponse.success(groupService.getGroupDeletion(user, groupId));
   }
 
   @LoginCheck
@@ -10,18 +10,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import site.paircoding.paircoding.annotaion.GroupRoleCheck;
 import site.paircoding.paircoding.annotaion.LoginUser;
 import site.paircoding.paircoding.entity.Project;
 import site.paircoding.paircoding.entity.User;
+import site.paircoding.paircoding.entity.dto.BulkScaleResult;
 import site.paircoding.paircoding.entity.dto.GroupUserResponse;
 import site.paircoding.paircoding.entity.dto.ProjectCreateRequest;
-import site.paircoding.paircoding.entity.dto.ProjectStatusDto;
+import site.paircoding.paircoding.entity.dto.ProjectUsageResponse;
 import site.paircoding.paircoding.entity.dto.ProjectWithUsersResponse;
 import site.paircoding.paircoding.entity.enums.Role;
 import site.paircoding.paircoding.global.ApiResponse;
 import site.paircoding.paircoding.service.ProjectService;
+import site.paircoding.paircoding.service.ResourceUsageService;
 
 @RestController
 @RequestMapping("/v1/groups/{groupId}/projects")
@@ -29,6 +32,7 @@ import site.paircoding.paircoding.service.ProjectService;
 public class ProjectController {
 
   private final ProjectService projectService;
+  private final ResourceUsageService resourceUsageService;
 
   // 등록 가능한 멤버 리스트 조회 - 그룹 내 프로젝트에 없는 멤버 권한 유저
   @GetMapping("/users")
@@ -83,8 +87,24 @@ public class ProjectController {
   @GetMapping("/{projectId}/project-status")
   public ApiResponse<?> getProjectStatus(@LoginUser User user,
       @PathVariable("groupId") Integer groupId, @PathVariable("projectId") Integer projectId) {
-    return ApiResponse.success(
-        new ProjectStatusDto(projectService.getProjectStatus(groupId, projectId)));
+    return ApiResponse.success(projectService.getProjectStatus(groupId, projectId));
+  }
+
+  // 프로젝트 리소스 사용량 조회
+  @GroupRoleCheck(Role.MEMBER)
+  @GetMapping("/{projectId}/usage")
+  public ApiResponse<ProjectUsageResponse> getProjectUsage(
+      @PathVariable("groupId") Integer groupId, @PathVariable("projectId") Integer projectId,
+      @RequestParam(value = "points", defaultValue = "60") int points) {
+    return ApiResponse.success(resourceUsageService.getUsage(groupId, projectId, points));
+  }
+
+  // 그룹 내 실행 중인 프로젝트 일괄 중지
+  @GroupRoleCheck(Role.MANAGER)
+  @PutMapping("/project-status")
+  public ApiResponse<BulkScaleResult> turnOffGroupProjects(
+      @PathVariable("groupId") Integer groupId) {
+    return ApiResponse.success(projectService.turnOffGroupProjects(groupId));
   }
 
   @GroupRoleCheck(Role.MEMBER)
@@ -2,6 +2,8 @@ package site.paircoding.paircoding.controller;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -10,30 +12,39 @@ import site.paircoding.paircoding.entity.dto.ProjectLanguageDto;
 import site.paircoding.paircoding.entity.dto.ProjectOSDto;
 import site.paircoding.paircoding.entity.dto.ProjectPerformanceDto;
 import site.paircoding.paircoding.global.ApiResponse;
-import site.paircoding.paircoding.service.ProjectService;
+import site.paircoding.paircoding.service.ProjectCatalogService;
+import site.paircoding.paircoding.service.ProjectCatalogService.CachedResponse;
 
 @RestController
 @RequestMapping("/v1/projects/option")
 @RequiredArgsConstructor
 public class ProjectOptionController {
 
-  private final ProjectService projectService;
+  private final ProjectCatalogService projectCatalogService;
 
   // 사용 가능한 언어 리스트 조회
   @GetMapping("/language")
-  public ApiResponse<List<ProjectLanguageDto>> getLanguage() {
-    return ApiResponse.success(projectService.getLanguage());
+  public ResponseEntity<ApiResponse<List<ProjectLanguageDto>>> getLanguage() {
+    return cached(projectCatalogService.getLanguages());
   }
 
   // 사용 가능한 OS 리스트 조회
   @GetMapping("/os")
-  public ApiResponse<List<ProjectOSDto>> getOS(@RequestParam String language) {
-    return ApiResponse.success(projectService.getOS(language));
+  public ResponseEntity<ApiResponse<List<ProjectOSDto>>> getOS(@RequestParam String language) {
+    return cached(projectCatalogService.getOS(language));
   }
 
   // 사용 가능한 사양 리스트 조회
   @GetMapping("/performance")
-  public ApiResponse<List<ProjectPerformanceDto>> getPerformance() {
-    return ApiResponse.success(projectService.getPerformance());
+  public ResponseEntity<ApiResponse<List<ProjectPerformanceDto>>> getPerformance() {
+    return cached(projectCatalogService.getPerformances());
+  }
+
+  // If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답됨
+  private <T> ResponseEntity<ApiResponse<T>> cached(CachedResponse<T> response) {
+    return ResponseEntity.ok()
+        .eTag(response.etag())
+        .cacheControl(CacheControl.noCache())
+        .body(response.body());
   }
 }
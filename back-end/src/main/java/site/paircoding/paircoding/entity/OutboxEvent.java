@@ -0,0 +1,80 @@
+package site.paircoding.paircoding.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import site.paircoding.paircoding.entity.enums.OutboxEventStatus;
+import site.paircoding.paircoding.entity.enums.OutboxEventType;
+
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 이벤트 식별 키 - 로그와 재시도에서 같은 이벤트인지 구분
+  @Column(nullable = false, unique = true, length = 36)
+  private String eventKey;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private OutboxEventType type;
+
+  @Column(nullable = false)
+  private Integer projectId;
+
+  @Column(nullable = false)
+  private Integer groupId;
+
+  // 프로젝트가 삭제된 뒤에도 리소스를 정리할 수 있도록 보관
+  @Column(nullable = false)
+  private String deploymentName;
+
+  @Column(nullable = false)
+  private int nodePort;
+
+  @Setter
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private OutboxEventStatus status;
+
+  @Setter
+  @Column(nullable = false)
+  private int attempts;
+
+  @Setter
+  @Column(length = 500)
+  private String lastError;
+
+  // 워커의 점유 만료 시각 또는 재시도 가능 시각
+  @Setter
+  private LocalDateTime leaseUntil;
+
+  @Builder
+  public OutboxEvent(OutboxEventType type, Integer projectId, Integer groupId,
+      String deploymentName, int nodePort) {
+    this.eventKey = UUID.randomUUID().toString();
+    this.type = type;
+    this.projectId = projectId;
+    this.groupId = groupId;
+    this.deploymentName = deploymentName;
+    this.nodePort = nodePort;
+    this.status = OutboxEventStatus.PENDING;
+  }
+}
@@ -3,6 +3,8 @@ package site.paircoding.paircoding.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -16,6 +18,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import site.paircoding.paircoding.entity.enums.ProvisionStatus;
 
 @Entity
 @Getter
@@ -45,7 +48,7 @@ public class Project extends BaseEntity {
   @Column(nullable = false, length = 30)
   private String name;
 
-  @Column(nullable = false)
+  @Column(nullable = false, unique = true)
   private String containerId;
 
   @Setter
@@ -69,6 +72,11 @@ public class Project extends BaseEntity {
   @Column(nullable = false)
   private Boolean isDeleted;
 
+  @Setter
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private ProvisionStatus provisionStatus;
+
   @PrePersist
   public void prePersist() {
     if (status == null) {
@@ -80,11 +88,15 @@ public class Project extends BaseEntity {
     if (isDeleted == null) {
       isDeleted = false;
     }
+    if (provisionStatus == null) {
+      provisionStatus = ProvisionStatus.READY;
+    }
   }
 
   @Builder
   public Project(Group group, ProjectImage projectImage, Performance performance, String name,
-      String containerId, String runCommand, Boolean status, Boolean autoStop, Boolean isDeleted) {
+      String containerId, String runCommand, Boolean status, Boolean autoStop, Boolean isDeleted,
+      ProvisionStatus provisionStatus) {
     this.group = group;
     this.projectImage = projectImage;
     this.performance = performance;
@@ -94,5 +106,6 @@ public class Project extends BaseEntity {
     this.status = (status != null) ? status : true;
     this.autoStop = (autoStop != null) ? autoStop : false;
     this.isDeleted = (isDeleted != null) ? isDeleted : false;
+    this.provisionStatus = (provisionStatus != null) ? provisionStatus : ProvisionStatus.READY;
   }
 }
@@ -0,0 +1,71 @@
+package site.paircoding.paircoding.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import site.paircoding.paircoding.entity.enums.ProvisioningJobStatus;
+import site.paircoding.paircoding.entity.enums.ProvisioningStep;
+
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProvisioningJob extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, unique = true)
+  private Integer projectId;
+
+  @Column(nullable = false)
+  private Integer groupId;
+
+  // 프로젝트가 삭제된 뒤에도 리소스를 정리할 수 있도록 보관
+  @Column(nullable = false)
+  private String deploymentName;
+
+  @Setter
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private ProvisioningStep step;
+
+  @Setter
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private ProvisioningJobStatus status;
+
+  // 현재 단계의 실패 횟수
+  @Setter
+  @Column(nullable = false)
+  private int attempts;
+
+  @Setter
+  @Column(length = 500)
+  private String lastError;
+
+  // 작업을 가져간 워커의 점유 만료 시각 - 지나면 다른 워커가 이어서 실행
+  @Setter
+  private LocalDateTime leaseUntil;
+
+  @Builder
+  public ProvisioningJob(Integer projectId, Integer groupId, String deploymentName) {
+    this.projectId = projectId;
+    this.groupId = groupId;
+    this.deploymentName = deploymentName;
+    this.step = ProvisioningStep.values()[0];
+    this.status = ProvisioningJobStatus.PENDING;
+  }
+}
@@ -0,0 +1,13 @@
+package site.paircoding.paircoding.entity.dto;
+
+import java.util.List;
+
+/**
+ * 여러 프로젝트 일괄 켜기/끄기 결과
+ *
+ * @param requested  대상 프로젝트 수
+ * @param projectIds 상태를 바꾼 프로젝트 ID - replica 변경은 커밋 이후 outbox 워커가 실패 시 재시도하며 수행
+ */
+public record BulkScaleResult(int requested, List<Integer> projectIds) {
+
+}
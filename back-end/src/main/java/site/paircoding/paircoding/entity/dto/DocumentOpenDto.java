@@ -0,0 +1,16 @@
+package site.paircoding.paircoding.entity.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+public class DocumentOpenDto {
+
+  private String path;
+  private String name;
+  @Setter
+  private String content;
+  @Setter
+  private Integer revision;
+
+}
@@ -0,0 +1,19 @@
+package site.paircoding.paircoding.entity.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DocumentOperationDto {
+
+  private String path;
+  private String name;
+  private Integer userId;
+  private String clientId;
+  // 클라이언트가 연산을 만든 기준 리비전, 응답 시에는 적용 후 리비전
+  private Integer revision;
+  private List<Object> operation;
+
+}
@@ -0,0 +1,18 @@
+package site.paircoding.paircoding.entity.dto;
+
+/**
+ * 명령 실행 결과 - 파드 exec, SSH 명령에서 함께 사용
+ *
+ * @param exitCode        명령 종료 코드, 받지 못했으면 -1
+ * @param stdout          표준 출력 (최대 크기까지만)
+ * @param stderr          표준 오류 (최대 크기까지만)
+ * @param outputTruncated 출력이 최대 크기를 넘어 잘렸는지 여부
+ * @param elapsedMillis   실행에 걸린 시간
+ */
+public record ExecResult(int exitCode, String stdout, String stderr, boolean outputTruncated,
+                         long elapsedMillis) {
+
+  public boolean isSuccess() {
+    return exitCode == 0;
+  }
+}
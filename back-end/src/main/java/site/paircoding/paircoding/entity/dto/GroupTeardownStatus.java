@@ -0,0 +1,16 @@
+package site.paircoding.paircoding.entity.dto;
+
+/**
+ * 그룹 삭제 작업 진행 상태
+ *
+ * @param status       RUNNING, DONE, FAILED
+ * @param step         현재(또는 마지막으로 실행한) 단계
+ * @param projectCount 함께 삭제되는 프로젝트 수
+ */
+public record GroupTeardownStatus(Integer groupId, Integer requestedBy, String status, String step,
+                                  int projectCount, String error) {
+
+  public GroupTeardownStatus next(String status, String step, String error) {
+    return new GroupTeardownStatus(groupId, requestedBy, status, step, projectCount, error);
+  }
+}
@@ -19,4 +19,6 @@ public class ProjectCreateRequest {
   @Min(value = 1, message = "성능 ID는 1 이상이어야 합니다.")
   private Integer performanceId;
   private List<Integer> userIds;
+  // 미입력 시 서버 기본값(workspace.idle.auto-stop-default) 사용
+  private Boolean autoStop;
 }
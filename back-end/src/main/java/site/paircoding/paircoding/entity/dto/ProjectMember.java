@@ -0,0 +1,9 @@
+package site.paircoding.paircoding.entity.dto;
+
+/**
+ * 프로젝트 목록 조회용 멤버 정보 - 여러 프로젝트의 멤버를 한 번에 조회
+ */
+public record ProjectMember(Integer projectId, Integer userId, String name, String image,
+                            String email) {
+
+}
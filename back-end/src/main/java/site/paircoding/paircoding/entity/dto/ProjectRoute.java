@@ -0,0 +1,8 @@
+package site.paircoding.paircoding.entity.dto;
+
+/**
+ * nginx 라우팅 항목 - 프로젝트 Deployment 이름과 NodePort
+ */
+public record ProjectRoute(String deploymentName, Integer nodePort) {
+
+}
@@ -1,11 +1,23 @@
 package site.paircoding.paircoding.entity.dto;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
+@Builder
+@EqualsAndHashCode
 @AllArgsConstructor
 public class ProjectStatusDto {
 
+  // 켜짐 여부 (desiredReplicas > 0)
   private boolean status;
+  // Running, Pending, Stopped, CrashLoopBackOff, ImagePullBackOff, Failed, Unknown
+  private String phase;
+  private int desiredReplicas;
+  private int readyReplicas;
+  private int restartCount;
+  // 마지막으로 컨테이너가 종료된 이유 (OOMKilled, Error 등)
+  private String lastRestartReason;
 }
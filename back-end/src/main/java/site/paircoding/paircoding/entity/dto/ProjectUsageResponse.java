@@ -0,0 +1,11 @@
+package site.paircoding.paircoding.entity.dto;
+
+import java.util.List;
+
+/**
+ * 프로젝트 리소스 사용량 조회 결과 - 선택한 사양과 시간순 샘플
+ */
+public record ProjectUsageResponse(Integer projectId, String cpu, String memory, String storage,
+                                   List<ResourceUsageSample> samples) {
+
+}
@@ -0,0 +1,14 @@
+package site.paircoding.paircoding.entity.dto;
+
+/**
+ * 작업 공간 리소스 사용량 샘플
+ *
+ * @param timestamp      수집 시각 (epoch millis)
+ * @param cpuMillicores  CPU 사용량 (1000 = 1 core)
+ * @param memoryBytes    메모리 사용량
+ * @param storageBytes   PVC 사용량, 수집하지 못했으면 null
+ */
+public record ResourceUsageSample(long timestamp, long cpuMillicores, long memoryBytes,
+                                  Long storageBytes) {
+
+}
@@ -0,0 +1,16 @@
+package site.paircoding.paircoding.entity.dto;
+
+/**
+ * 작업 공간 준비 상태 확인 결과
+ *
+ * @param volumeBound         PVC 가 PV 에 바인딩되었는지 여부
+ * @param deploymentAvailable Deployment 가 Available 상태인지 여부
+ * @param elapsedMillis       확인에 걸린 시간
+ */
+public record WorkspaceReadiness(String deploymentName, boolean volumeBound,
+                                 boolean deploymentAvailable, long elapsedMillis) {
+
+  public boolean isReady() {
+    return volumeBound && deploymentAvailable;
+  }
+}
@@ -0,0 +1,11 @@
+package site.paircoding.paircoding.entity.enums;
+
+/**
+ * 쿠버네티스 API 호출 종류 - 종류마다 따로 호출 속도를 제한
+ */
+public enum KubernetesVerb {
+  READ,
+  WRITE,
+  DELETE,
+  EXEC
+}
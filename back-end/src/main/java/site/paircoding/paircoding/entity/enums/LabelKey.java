@@ -6,7 +6,9 @@ import lombok.Getter;
 public enum LabelKey {
   ENV("env"),
   GROUP_ID("groupId"),
-  DEPLOYMENT_NAME("deploymentName");
+  PROJECT_ID("projectId"),
+  DEPLOYMENT_NAME("deploymentName"),
+  WARM_POOL("warmPool");
 
   private final String key;
 
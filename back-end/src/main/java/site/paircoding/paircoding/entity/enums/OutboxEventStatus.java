@@ -0,0 +1,5 @@
+package site.paircoding.paircoding.entity.enums;
+
+public enum OutboxEventStatus {
+  PENDING, RUNNING, DONE, FAILED
+}
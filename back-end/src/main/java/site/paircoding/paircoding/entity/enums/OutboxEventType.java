@@ -0,0 +1,8 @@
+package site.paircoding.paircoding.entity.enums;
+
+public enum OutboxEventType {
+  // 프로젝트 삭제 - 쿠버네티스 리소스, nginx 설정, NodePort, Redis 상태 정리
+  PROJECT_DELETED,
+  // 프로젝트 켜기/끄기 - DB 에 기록된 상태에 맞게 replica 변경
+  PROJECT_SCALED
+}
@@ -0,0 +1,6 @@
+package site.paircoding.paircoding.entity.enums;
+
+// 프로젝트 작업 공간 준비 상태
+public enum ProvisionStatus {
+  PROVISIONING, READY, FAILED
+}
@@ -0,0 +1,5 @@
+package site.paircoding.paircoding.entity.enums;
+
+public enum ProvisioningJobStatus {
+  PENDING, RUNNING, DONE, FAILED
+}
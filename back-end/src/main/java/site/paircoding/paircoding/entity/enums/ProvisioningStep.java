@@ -0,0 +1,17 @@
+package site.paircoding.paircoding.entity.enums;
+
+/**
+ * 프로젝트 생성 단계 - 선언 순서대로 실행
+ */
+public enum ProvisioningStep {
+  NODE_PORT,
+  KUBERNETES_RESOURCES,
+  NGINX_CONFIG,
+  WORKSPACE_READY,
+  CALL_STATUS,
+  COMPLETED;
+
+  public ProvisioningStep next() {
+    return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+  }
+}
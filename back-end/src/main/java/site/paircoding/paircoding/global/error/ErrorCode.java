@@ -15,7 +15,8 @@ public enum ErrorCode {
   CONFLICT_EXCEPTION(HttpStatus.CONFLICT, "C005", "Conflict occurred"),
   EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "C006", "Token expired"),
   INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "C007", "Invalid token"),
-  INVALID_REQUEST(HttpStatus.BAD_REQUEST, "C008", "Invalid request");
+  INVALID_REQUEST(HttpStatus.BAD_REQUEST, "C008", "Invalid request"),
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C009", "Too many requests");
 
   private final HttpStatus status;
   private final String code;
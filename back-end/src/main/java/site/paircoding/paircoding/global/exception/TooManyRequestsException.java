@@ -0,0 +1,20 @@
+package site.paircoding.paircoding.global.exception;
+
+import lombok.Getter;
+import site.paircoding.paircoding.global.error.ErrorCode;
+
+@Getter
+public class TooManyRequestsException extends CustomException {
+
+  private final ErrorCode errorCode;
+
+  public TooManyRequestsException() {
+    super(ErrorCode.TOO_MANY_REQUESTS.getMessage());
+    this.errorCode = ErrorCode.TOO_MANY_REQUESTS;
+  }
+
+  public TooManyRequestsException(String message) {
+    super(ErrorCode.TOO_MANY_REQUESTS.getMessage() + " : " + message);
+    this.errorCode = ErrorCode.TOO_MANY_REQUESTS;
+  }
+}
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import site.paircoding.paircoding.service.SaveCoalescingService;
+import site.paircoding.paircoding.service.WorkspaceIdleService;
 import site.paircoding.paircoding.util.RedisUtil;
 
 @Slf4j
@@ -21,10 +23,12 @@ import site.paircoding.paircoding.util.RedisUtil;
 public class WebSocketEventListener {
 
   private static final String STATUS_PREFIX = "statusId=%d";
-  private static final String PROJECT_USER_KEY = "project:%s:user:%s"; // Redis 저장 키 형식
+  private static final String PROJECT_USERS_KEY = "project:%s:users"; // 프로젝트 접속 유저 ID 집합
 
   private final RedisUtil redisUtil;
   private final SimpMessagingTemplate messagingTemplate;
+  private final SaveCoalescingService saveCoalescingService;
+  private final WorkspaceIdleService workspaceIdleService;
   private final ObjectMapper objectMapper = new ObjectMapper(); // ✅ JSON 변환을 위한 ObjectMapper
 
   // 세션 ID와 유저 ID, 그룹 ID, 프로젝트 ID를 매핑하여 저장하는 Map
@@ -79,9 +83,11 @@ public class WebSocketEventListener {
       log.info("User Subscribed: sessionId={}, userId={}, projectId={}", sessionId, userId,
           projectId);
 
-      // ✅ Redis에 저장하여 접속 중 상태로 표시
-      String redisKey = PROJECT_USER_KEY.formatted(projectId, userId);
-      redisUtil.set(redisKey, "online");
+      // ✅ 프로젝트 접속 유저 집합에 추가하여 접속 중 상태로 표시
+      if (userId != null) {
+        redisUtil.sadd(PROJECT_USERS_KEY.formatted(projectId), userId);
+      }
+      touchWorkspace(projectId);
 
       Map<String, String> projectStatusMessage = new HashMap<>();
       projectStatusMessage.put("status", "member");
@@ -111,13 +117,17 @@ public class WebSocketEventListener {
     log.info("WebSocket Disconnected: sessionId={}, userId={}, groupId={}, projectId={}", sessionId,
         userId, groupId, projectId);
 
+    // 연결이 끊긴 세션이 저장한 내용 중 아직 기록되지 않은 내용을 즉시 기록
+    saveCoalescingService.flushSession(sessionId);
+
     if (userId != null) {
       redisUtil.set(STATUS_PREFIX.formatted(Integer.parseInt(userId)), "offline");
 
-      // ✅ 프로젝트에서 나가면 Redis에서 해당 정보 삭제
+      // ✅ 프로젝트에서 나가면 접속 유저 집합에서 제거
       if (projectId != null) {
-        String redisKey = PROJECT_USER_KEY.formatted(projectId, userId);
-        redisUtil.delete(redisKey); // Redis에서 삭제
+        redisUtil.sremove(PROJECT_USERS_KEY.formatted(projectId), userId);
+        // 마지막 접속자가 나간 시점부터 유휴 시간 계산
+        touchWorkspace(projectId);
 
         Map<String, String> projectStatusMessage = new HashMap<>();
         projectStatusMessage.put("status", "member");
@@ -152,4 +162,15 @@ public class WebSocketEventListener {
       sessionProjectMap.remove(sessionId);
     }
   }
+
+  /**
+   * 구독 경로에서 꺼낸 프로젝트 ID 로 유휴 시간 갱신 - 클라이언트가 보낸 값이므로 숫자가 아니면 건너뜀
+   */
+  private void touchWorkspace(String projectId) {
+    try {
+      workspaceIdleService.touch(Integer.parseInt(projectId));
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring non-numeric projectId in subscription: {}", projectId);
+    }
+  }
 }
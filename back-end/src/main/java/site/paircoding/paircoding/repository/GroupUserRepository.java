@@ -1,10 +1,12 @@
 package site.paircoding.paircoding.repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import site.paircoding.paircoding.entity.GroupUser;
 import site.paircoding.paircoding.entity.enums.Role;
@@ -20,8 +22,15 @@ public interface GroupUserRepository extends JpaRepository<GroupUser, Integer> {
 
   Optional<GroupUser> findByGroupIdAndUserId(Integer groupId, Integer userId);
 
+  @Query("SELECT gu FROM GroupUser gu JOIN FETCH gu.user "
+      + "WHERE gu.id.groupId = :groupId and gu.id.userId in :userIds")
+  List<GroupUser> findAllWithUserByGroupIdAndUserIdIn(Integer groupId,
+      Collection<Integer> userIds);
+
   Integer countByGroupId(Integer groupId);
 
+  @Modifying
+  @Query("DELETE FROM GroupUser gu WHERE gu.id.groupId = :groupId")
   void deleteAllByGroupId(Integer groupId);
 
   @Query("SELECT gu FROM GroupUser gu WHERE gu.id.groupId = :groupId and gu.role = :role")
@@ -0,0 +1,35 @@
+package site.paircoding.paircoding.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import site.paircoding.paircoding.entity.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  String STATUS = "site.paircoding.paircoding.entity.enums.OutboxEventStatus.";
+
+  // 재시도 대기 시간이 지난 대기 이벤트 또는 점유가 만료된 실행 이벤트
+  String CLAIMABLE = "((e.status = " + STATUS + "PENDING"
+      + " and (e.leaseUntil is null or e.leaseUntil < :now))"
+      + " or (e.status = " + STATUS + "RUNNING and e.leaseUntil < :now))";
+
+  // 이벤트를 원자적으로 가져감 - 여러 인스턴스/스레드 중 하나만 성공
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("update OutboxEvent e set e.status = " + STATUS + "RUNNING, e.leaseUntil = :leaseUntil"
+      + " where e.id = :id and " + CLAIMABLE)
+  int claim(Long id, LocalDateTime now, LocalDateTime leaseUntil);
+
+  @Query("select e.id from OutboxEvent e where " + CLAIMABLE + " order by e.id")
+  List<Long> findClaimableIds(LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("delete from OutboxEvent e where e.status = " + STATUS + "DONE"
+      + " and e.updatedAt < :before")
+  int deleteDoneBefore(LocalDateTime before);
+}
@@ -3,15 +3,60 @@ package site.paircoding.paircoding.repository;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.dto.ProjectRoute;
 
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
 
+  // 프로젝트 목록 응답에 함께 내려가는 연관 엔티티까지 한 번에 조회
+  String WITH_DETAILS = "select p from Project p join fetch p.group join fetch p.projectImage "
+      + "join fetch p.performance ";
+
   @Query("select p from Project p where p.group.id = :groupId and p.id = :projectId")
   Optional<Project> findByGroupIdAndProjectId(Integer groupId, Integer projectId);
 
   List<Project> findByGroupId(Integer groupId);
 
   List<Project> findAllByGroupId(Integer groupId);
+
+  @Query(WITH_DETAILS + "where p.group.id = :groupId order by p.id")
+  List<Project> findWithDetailsByGroupId(Integer groupId);
+
+  // 사용자가 멤버로 참여한 그룹 내 프로젝트
+  @Query(WITH_DETAILS + "where p.group.id = :groupId and exists "
+      + "(select pu from ProjectUser pu where pu.project = p and pu.user.id = :userId) "
+      + "order by p.id")
+  List<Project> findWithDetailsByGroupIdAndMemberId(Integer groupId, Integer userId);
+
+  @Query("select p from Project p join fetch p.projectImage join fetch p.performance "
+      + "where p.id = :projectId")
+  Optional<Project> findWithImageAndPerformanceById(Integer projectId);
+
+  // 자동 중지 대상 - 실행 중이고 생성이 끝난 autoStop 프로젝트
+  @Query("select p from Project p where p.status = true and p.autoStop = true "
+      + "and p.provisionStatus = site.paircoding.paircoding.entity.enums.ProvisionStatus.READY")
+  List<Project> findAutoStopCandidates();
+
+  List<Project> findAllByContainerIdIn(List<String> containerIds);
+
+  // 그룹 내 실행 중이고 생성이 끝난 프로젝트
+  @Query("select p from Project p where p.group.id = :groupId and p.status = true "
+      + "and p.provisionStatus = site.paircoding.paircoding.entity.enums.ProvisionStatus.READY")
+  List<Project> findRunningByGroupId(Integer groupId);
+
+  // NodePort 가 할당된 프로젝트의 nginx 라우팅
+  @Query("select new site.paircoding.paircoding.entity.dto.ProjectRoute(p.containerId, p.nodePort) "
+      + "from Project p where p.nodePort > 0")
+  List<ProjectRoute> findAllRoutes();
+
+  @Query("select p.nodePort from Project p")
+  List<Integer> findAllNodePorts();
+
+  boolean existsByNodePort(int nodePort);
+
+  @Modifying
+  @Query("delete from Project p where p.group.id = :groupId")
+  void deleteAllInBatchByGroupId(Integer groupId);
 }
@@ -1,12 +1,16 @@
 package site.paircoding.paircoding.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import site.paircoding.paircoding.entity.Project;
 import site.paircoding.paircoding.entity.ProjectUser;
 import site.paircoding.paircoding.entity.ProjectUserId;
 import site.paircoding.paircoding.entity.User;
+import site.paircoding.paircoding.entity.dto.ProjectMember;
 
 public interface ProjectUserRepository extends JpaRepository<ProjectUser, ProjectUserId> {
 
@@ -14,9 +18,20 @@ public interface ProjectUserRepository extends JpaRepository<ProjectUser, Projec
 
   List<ProjectUser> findByUser(User user);
 
+  // 여러 프로젝트의 멤버를 한 번에 조회
+  @Query("select new site.paircoding.paircoding.entity.dto.ProjectMember(pu.project.id, u.id, "
+      + "u.name, u.image, u.email) from ProjectUser pu join pu.user u "
+      + "where pu.project.id in :projectIds")
+  List<ProjectMember> findMembersByProjectIdIn(Collection<Integer> projectIds);
+
   void deleteByProject(Project project);
 
   Optional<ProjectUser> findProjectUserByProjectIdAndUser(Integer projectId, User user);
 
   void deleteByProjectIdAndUserId(Integer id, Integer userId);
+
+  @Modifying
+  @Query("delete from ProjectUser pu where pu.project.id in "
+      + "(select p.id from Project p where p.group.id = :groupId)")
+  void deleteAllInBatchByGroupId(Integer groupId);
 }
@@ -0,0 +1,36 @@
+package site.paircoding.paircoding.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import site.paircoding.paircoding.entity.ProvisioningJob;
+
+public interface ProvisioningJobRepository extends JpaRepository<ProvisioningJob, Long> {
+
+  String STATUS = "site.paircoding.paircoding.entity.enums.ProvisioningJobStatus.";
+
+  // 재시도 대기 시간이 지난 대기 작업 또는 점유가 만료된 실행 작업
+  String CLAIMABLE = "((j.status = " + STATUS + "PENDING"
+      + " and (j.leaseUntil is null or j.leaseUntil < :now))"
+      + " or (j.status = " + STATUS + "RUNNING and j.leaseUntil < :now))";
+
+  // 작업을 원자적으로 가져감 - 여러 인스턴스/스레드 중 하나만 성공
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("update ProvisioningJob j set j.status = " + STATUS + "RUNNING, j.leaseUntil = :leaseUntil"
+      + " where j.id = :id and " + CLAIMABLE)
+  int claim(Long id, LocalDateTime now, LocalDateTime leaseUntil);
+
+  @Query("select j.id from ProvisioningJob j where " + CLAIMABLE)
+  List<Long> findClaimableIds(LocalDateTime now);
+
+  @Transactional
+  void deleteByProjectId(Integer projectId);
+
+  @Modifying
+  @Query("delete from ProvisioningJob j where j.groupId = :groupId")
+  void deleteAllInBatchByGroupId(Integer groupId);
+}
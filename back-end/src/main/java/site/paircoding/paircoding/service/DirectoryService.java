@@ -20,6 +20,7 @@ import site.paircoding.paircoding.entity.enums.DirectoryAction;
 import site.paircoding.paircoding.entity.enums.DirectoryType;
 import site.paircoding.paircoding.global.exception.WebsocketException;
 import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.SingleFlight;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +29,12 @@ public class DirectoryService {
   private final KubernetesUtil kubernetesUtil;
   private final SimpMessagingTemplate messagingTemplate;
   private final ProjectService projectService;
+  private final DocumentService documentService;
+  private final SaveCoalescingService saveCoalescingService;
+  private final WorkspaceIdleService workspaceIdleService;
+
+  // 여러 유저가 동시에 같은 목록/파일을 읽을 때 파드 exec 한 번으로 합침
+  private final SingleFlight<String, String> readFlight = new SingleFlight<>();
 
   // todo pod 확인
   // todo 메서드 호출마다 pod 찾는 로직 -> 찾아놓은 pod 이용하기
@@ -38,12 +45,13 @@ public class DirectoryService {
       throw new WebsocketException("Invalid action");
     }
 
-    Project project = projectService.getProject(groupId, projectId);
+    Project project = getWorkspace(groupId, projectId);
 
     String deploymentName = project.getContainerId();
     String command = "ls -al /app" + dto.getPath();
 
-    String[] lines = kubernetesUtil.executeCommand(deploymentName, command).split("\n");
+    String[] lines = readFlight.execute(deploymentName + ":" + command,
+        () -> kubernetesUtil.executeCommand(deploymentName, command)).split("\n");
     List<DirectoryChildren> directoryList = new ArrayList<>();
     List<DirectoryChildren> fileList = new ArrayList<>();
 
@@ -85,7 +93,7 @@ public class DirectoryService {
       throw new WebsocketException("Invalid action");
     }
 
-    Project project = projectService.getProject(groupId, projectId);
+    Project project = getWorkspace(groupId, projectId);
 
     String deploymentName = project.getContainerId();
     String command = "ls -al /app" + dto.getPath() + " | grep " + dto.getName();
@@ -118,7 +126,7 @@ public class DirectoryService {
       throw new WebsocketException("Invalid action");
     }
 
-    Project project = projectService.getProject(groupId, projectId);
+    Project project = getWorkspace(groupId, projectId);
 
     String deploymentName = project.getContainerId();
     String command1 = "ls -al /app" + dto.getPath() + " | grep " + dto.getName();
@@ -142,6 +150,11 @@ public class DirectoryService {
         String path = "/app" + dto.getPath() + "/" + dto.getName();
         String command = "rm -rf " + path;
 
+        // 공동 편집 중인 문서와 아직 기록되지 않은 저장 내용은 버림
+        String filePath = DocumentService.resolveFilePath(dto.getPath(), dto.getName());
+        documentService.close(projectId, filePath, false);
+        saveCoalescingService.discard(projectId, filePath);
+
         kubernetesUtil.executeCommand(deploymentName, command);
 
         return dto;
@@ -155,7 +168,7 @@ public class DirectoryService {
       throw new WebsocketException("Invalid action");
     }
 
-    Project project = projectService.getProject(groupId, projectId);
+    Project project = getWorkspace(groupId, projectId);
 
     String deploymentName = project.getContainerId();
 
@@ -196,6 +209,11 @@ public class DirectoryService {
         String newPath = "/app" + dto.getPath() + "/" + dto.getNewName();
         command = "mv " + oldPath + " " + newPath;
 
+        // 공동 편집 중인 문서와 아직 기록되지 않은 저장 내용은 먼저 기록
+        String filePath = DocumentService.resolveFilePath(dto.getPath(), dto.getOldName());
+        documentService.close(projectId, filePath, true);
+        saveCoalescingService.flush(projectId, filePath);
+
         kubernetesUtil.executeCommand(deploymentName, command);
         break;
       }
@@ -213,18 +231,31 @@ public class DirectoryService {
       throw new WebsocketException("Invalid type");
     }
 
-    Project project = projectService.getProject(groupId, projectId);
+    Project project = getWorkspace(groupId, projectId);
+
+    // 공동 편집 중인 문서나 기록 대기 중인 저장 내용이 있으면 파드보다 최신이므로 메모리 내용 사용
+    String filePath = DocumentService.resolveFilePath(dto.getPath(), dto.getName());
+    String latestContent = documentService.getContent(projectId, filePath);
+    if (latestContent == null) {
+      latestContent = saveCoalescingService.getPendingContent(projectId, filePath);
+    }
+    if (latestContent != null) {
+      dto.setContent(latestContent);
+      return dto;
+    }
 
     String deploymentName = project.getContainerId();
     String command = "cat /app" + dto.getPath() + "/" + dto.getName();
 
-    dto.setContent(kubernetesUtil.executeCommand(deploymentName, command));
+    dto.setContent(readFlight.execute(deploymentName + ":" + command,
+        () -> kubernetesUtil.executeCommand(deploymentName, command)));
 
     return dto;
   }
 
 
-  public DirectorySaveDto save(Integer groupId, Integer projectId, DirectorySaveDto dto) {
+  public DirectorySaveDto save(Integer groupId, Integer projectId, String sessionId,
+      DirectorySaveDto dto) {
     if (DirectoryAction.SAVE != dto.getAction()) {
       throw new WebsocketException("Invalid action");
     }
@@ -233,14 +264,22 @@ public class DirectoryService {
       throw new WebsocketException("Invalid type");
     }
 
-    Project project = projectService.getProject(groupId, projectId);
-
-    String deploymentName = project.getContainerId();
-    String path = "/app" + dto.getPath() + "/" + dto.getName();
-    String command = String.format("echo '%s' > %s", dto.getContent().replace("'", "'\\''"), path);
+    Project project = getWorkspace(groupId, projectId);
 
-    kubernetesUtil.executeCommand(deploymentName, command);
+    // 바로 응답하고 파드 기록은 문서 flush 나 연속 저장을 모아 한 번에 수행
+    String filePath = DocumentService.resolveFilePath(dto.getPath(), dto.getName());
+    documentService.save(projectId, project.getContainerId(), filePath, dto.getContent(),
+        sessionId);
 
     return dto;
   }
+
+  /**
+   * 프로젝트 조회 - 활동을 기록하고 자동 중지된 작업 공간이면 준비될 때까지 대기
+   */
+  private Project getWorkspace(Integer groupId, Integer projectId) {
+    Project project = projectService.getProject(groupId, projectId);
+    workspaceIdleService.awaken(project);
+    return project;
+  }
 }
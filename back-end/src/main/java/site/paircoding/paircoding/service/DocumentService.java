@@ -0,0 +1,375 @@
+package site.paircoding.paircoding.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.dto.DocumentOpenDto;
+import site.paircoding.paircoding.entity.dto.DocumentOperationDto;
+import site.paircoding.paircoding.global.exception.WebsocketException;
+import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.TextOperation;
+
+/**
+ * 파일 단위 공동 편집 문서 관리
+ * <p>
+ * 열린 파일은 서버 메모리에 하나의 공유 문서로 유지되고, 편집은 OT 연산 단위로 주고받습니다. 파드에는 편집이 잠잠해졌거나 일정 시간이 지났을 때만
+ * 전체 내용을 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentService {
+
+  private static final String DOCUMENT_DESTINATION = "/sub/groups/%d/projects/%d/users/all/document";
+
+  // 문서 하나가 가질 수 있는 최대 길이 (문자 수)
+  @Value("${collaboration.max-document-length:131072}")
+  private int maxDocumentLength;
+
+  // 늦게 도착한 연산을 변환하기 위해 보관하는 최근 연산 수
+  @Value("${collaboration.max-history:500}")
+  private int maxHistory;
+
+  // 마지막 편집 이후 이 시간 동안 편집이 없으면 파드에 기록
+  @Value("${collaboration.flush-idle-ms:2000}")
+  private long flushIdleMillis;
+
+  // 편집이 계속되더라도 이 시간이 지나면 파드에 기록
+  @Value("${collaboration.flush-interval-ms:10000}")
+  private long flushIntervalMillis;
+
+  // 이 시간 동안 접근이 없는 문서는 메모리에서 제거
+  @Value("${collaboration.evict-idle-ms:600000}")
+  private long evictIdleMillis;
+
+  private final Map<String, SharedDocument> documents = new ConcurrentHashMap<>();
+  private final KubernetesUtil kubernetesUtil;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ProjectService projectService;
+  private final SaveCoalescingService saveCoalescingService;
+  private final WorkspaceIdleService workspaceIdleService;
+
+  public static String resolveFilePath(String path, String name) {
+    return ("/app" + path + "/" + name).replaceAll("/{2,}", "/");
+  }
+
+  public DocumentOpenDto open(Integer groupId, Integer projectId, DocumentOpenDto dto) {
+    Project project = projectService.getProject(groupId, projectId);
+    workspaceIdleService.awaken(project);
+    String filePath = resolveFilePath(dto.getPath(), dto.getName());
+    String key = key(projectId, filePath);
+
+    SharedDocument document = documents.computeIfAbsent(key,
+        k -> new SharedDocument(groupId, projectId, project.getContainerId(), filePath));
+
+    synchronized (document) {
+      if (!document.loaded) {
+        try {
+          // 기록 대기 중인 저장 내용이 있으면 문서가 이어받아 함께 기록
+          String content = saveCoalescingService.takePending(projectId, filePath);
+          boolean dirty = content != null;
+          if (content == null) {
+            content = kubernetesUtil.executeCommand(document.deploymentName, "cat " + filePath);
+          }
+          if (content.length() > maxDocumentLength) {
+            throw new WebsocketException("File is too large for collaborative editing");
+          }
+          document.load(content, dirty);
+        } catch (RuntimeException e) {
+          document.closed = true;
+          documents.remove(key, document);
+          throw e;
+        }
+      }
+      document.lastAccessAt = System.currentTimeMillis();
+
+      dto.setContent(document.content);
+      dto.setRevision(document.revision);
+    }
+    return dto;
+  }
+
+  /**
+   * 편집 연산을 문서에 적용하고 변환된 연산을 프로젝트 전체에 전송
+   * <p>
+   * 리비전 순서대로 전달되어야 클라이언트가 어긋나지 않으므로 문서 잠금을 쥔 채로 전송합니다.
+   */
+  public void edit(Integer groupId, Integer projectId, DocumentOperationDto dto) {
+    String filePath = resolveFilePath(dto.getPath(), dto.getName());
+    SharedDocument document = documents.get(key(projectId, filePath));
+    if (document == null || !document.groupId.equals(groupId)) {
+      throw new WebsocketException("Document is not open");
+    }
+
+    TextOperation operation = TextOperation.from(dto.getOperation());
+    workspaceIdleService.touch(projectId);
+
+    synchronized (document) {
+      if (document.closed || !document.loaded) {
+        throw new WebsocketException("Document is not open");
+      }
+      TextOperation applied = document.receive(dto.getRevision(), operation);
+      dto.setRevision(document.revision);
+      dto.setOperation(applied.toList());
+      messagingTemplate.convertAndSend(DOCUMENT_DESTINATION.formatted(groupId, projectId), dto);
+    }
+  }
+
+  /**
+   * 파일 전체 저장 - 공동 편집 중인 문서는 연산으로 반영하고, 아니면 저장 병합에 맡김
+   * <p>
+   * 보관하는 사이 문서가 열리기 시작했다면 문서가 보관 내용을 가져가기 전인지 알 수 없으므로, 로딩이 끝나길 기다린 뒤 다시 가져와 문서에
+   * 반영합니다. 그래서 로딩 중 들어온 저장이 나중에 따로 기록되어 문서 내용을 덮어쓰지 않습니다.
+   */
+  public void save(Integer projectId, String deploymentName, String filePath, String content,
+      String sessionId) {
+    if (replaceIfOpen(projectId, filePath, content)) {
+      return;
+    }
+
+    saveCoalescingService.save(projectId, deploymentName, filePath, content, sessionId);
+    String key = key(projectId, filePath);
+    SharedDocument document;
+    // 문서가 없거나 닫혔으면 보관 내용은 이후 열리는 문서가 이어받음
+    while ((document = documents.get(key)) != null) {
+      synchronized (document) {
+        if (document.closed) {
+          return;
+        }
+      }
+      String pending = saveCoalescingService.takePending(projectId, filePath);
+      if (pending == null || replaceIfOpen(projectId, filePath, pending)) {
+        return;
+      }
+      // 로딩 전이거나 그 사이 닫힌 경우 다시 보관하고 확인
+      saveCoalescingService.save(projectId, deploymentName, filePath, pending, sessionId);
+    }
+  }
+
+  /**
+   * 열려 있는 문서라면 파일 전체 저장을 문서 연산으로 바꿔 적용 - 로딩 중이면 끝날 때까지 기다림
+   *
+   * @return 문서가 열려 있어 연산으로 처리되었으면 true
+   */
+  private boolean replaceIfOpen(Integer projectId, String filePath, String content) {
+    SharedDocument document = documents.get(key(projectId, filePath));
+    if (document == null) {
+      return false;
+    }
+
+    DocumentOperationDto broadcast = new DocumentOperationDto();
+    int slash = filePath.lastIndexOf('/');
+    broadcast.setPath(filePath.substring("/app".length(), slash));
+    broadcast.setName(filePath.substring(slash + 1));
+
+    synchronized (document) {
+      if (document.closed || !document.loaded) {
+        return false;
+      }
+      TextOperation operation = TextOperation.diff(document.content, content);
+      if (operation.isNoop()) {
+        return true;
+      }
+      TextOperation applied = document.receive(document.revision, operation);
+      broadcast.setRevision(document.revision);
+      broadcast.setOperation(applied.toList());
+      // 편집 연산과 같은 순서로 전달되도록 잠금 안에서 전송
+      messagingTemplate.convertAndSend(
+          DOCUMENT_DESTINATION.formatted(document.groupId, projectId), broadcast);
+    }
+    return true;
+  }
+
+  /**
+   * 메모리에 열린 문서 내용 조회
+   *
+   * @return 열린 문서가 없으면 null
+   */
+  public String getContent(Integer projectId, String filePath) {
+    SharedDocument document = documents.get(key(projectId, filePath));
+    if (document == null) {
+      return null;
+    }
+    synchronized (document) {
+      return document.loaded && !document.closed ? document.content : null;
+    }
+  }
+
+  /**
+   * 경로(또는 그 하위)에 해당하는 문서를 닫음 - 파일 삭제/이름 변경 전에 호출
+   *
+   * 기록에 실패하면 문서를 다시 열어 두고 예외를 던지므로 호출 측은 이후 작업을 중단해야 합니다.
+   *
+   * @param flush 닫기 전에 파드에 기록할지 여부
+   */
+  public void close(Integer projectId, String filePath, boolean flush) {
+    String key = key(projectId, filePath);
+    for (Map.Entry<String, SharedDocument> entry : documents.entrySet()) {
+      if (!entry.getKey().equals(key) && !entry.getKey().startsWith(key + "/")) {
+        continue;
+      }
+      SharedDocument document = entry.getValue();
+      // 먼저 닫아 새 편집을 막은 뒤 기록해야 기록 이후의 편집이 유실되지 않음
+      synchronized (document) {
+        document.closed = true;
+      }
+      if (flush && !flush(document)) {
+        synchronized (document) {
+          document.closed = false;
+        }
+        throw new WebsocketException("Failed to save document: " + entry.getKey());
+      }
+      documents.remove(entry.getKey(), document);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${collaboration.flush-tick-ms:1000}")
+  public void flushIdleDocuments() {
+    long now = System.currentTimeMillis();
+    for (Map.Entry<String, SharedDocument> entry : documents.entrySet()) {
+      SharedDocument document = entry.getValue();
+      boolean flushDue;
+      synchronized (document) {
+        flushDue = document.isDirty() && (now - document.lastEditAt >= flushIdleMillis
+            || now - document.lastFlushAt >= flushIntervalMillis);
+      }
+      if (flushDue) {
+        flush(document);
+      }
+
+      // 기록이 끝난 상태로 오래 방치된 문서만 제거
+      synchronized (document) {
+        if (document.isDirty() || now - document.lastAccessAt <= evictIdleMillis) {
+          continue;
+        }
+        document.closed = true;
+      }
+      documents.remove(entry.getKey(), document);
+    }
+  }
+
+  @PreDestroy
+  public void flushAll() {
+    documents.values().forEach(this::flush);
+  }
+
+  /**
+   * 문서 내용을 파드에 기록
+   *
+   * @return 기록 후 문서가 깨끗한 상태이면 true
+   */
+  private boolean flush(SharedDocument document) {
+    document.flushLock.lock();
+    try {
+      String content;
+      int revision;
+      synchronized (document) {
+        if (!document.isDirty()) {
+          return true;
+        }
+        content = document.content;
+        revision = document.revision;
+        document.lastFlushAt = System.currentTimeMillis();
+      }
+
+      try {
+        kubernetesUtil.writeFile(document.deploymentName, document.filePath, content);
+      } catch (RuntimeException e) {
+        log.warn("Failed to flush document: project={}, path={}", document.projectId,
+            document.filePath, e);
+        return false;
+      }
+
+      synchronized (document) {
+        document.flushedRevision = Math.max(document.flushedRevision, revision);
+        return !document.isDirty();
+      }
+    } finally {
+      document.flushLock.unlock();
+    }
+  }
+
+  private String key(Integer projectId, String filePath) {
+    return projectId + ":" + filePath;
+  }
+
+  private class SharedDocument {
+
+    private final Integer groupId;
+    private final Integer projectId;
+    private final String deploymentName;
+    private final String filePath;
+    private final Deque<TextOperation> history = new ArrayDeque<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private boolean loaded;
+    private boolean closed;
+    private String content;
+    private int revision;
+    private int flushedRevision;
+    private long lastEditAt;
+    private long lastFlushAt;
+    private long lastAccessAt;
+
+    SharedDocument(Integer groupId, Integer projectId, String deploymentName, String filePath) {
+      this.groupId = groupId;
+      this.projectId = projectId;
+      this.deploymentName = deploymentName;
+      this.filePath = filePath;
+    }
+
+    void load(String content, boolean dirty) {
+      this.content = content;
+      this.loaded = true;
+      this.flushedRevision = dirty ? -1 : 0;
+      this.lastFlushAt = System.currentTimeMillis();
+    }
+
+    boolean isDirty() {
+      return revision > flushedRevision;
+    }
+
+    /**
+     * 클라이언트 기준 리비전 이후에 적용된 연산들에 맞춰 변환한 뒤 문서에 적용
+     */
+    TextOperation receive(Integer clientRevision, TextOperation operation) {
+      int oldest = revision - history.size();
+      if (clientRevision == null || clientRevision > revision || clientRevision < oldest) {
+        throw new WebsocketException("Revision out of range - reopen the document");
+      }
+
+      Iterator<TextOperation> concurrent = history.iterator();
+      for (int i = oldest; i < clientRevision; i++) {
+        concurrent.next();
+      }
+      while (concurrent.hasNext()) {
+        operation = TextOperation.transform(operation, concurrent.next())[0];
+      }
+
+      if (operation.getTargetLength() > maxDocumentLength) {
+        throw new WebsocketException("Document is too large");
+      }
+      content = operation.apply(content);
+
+      history.addLast(operation);
+      if (history.size() > maxHistory) {
+        history.removeFirst();
+      }
+      revision++;
+      lastEditAt = System.currentTimeMillis();
+      lastAccessAt = lastEditAt;
+      return operation;
+    }
+  }
+}
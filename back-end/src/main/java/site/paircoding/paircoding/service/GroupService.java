@@ -14,6 +14,7 @@ import site.paircoding.paircoding.entity.Project;
 import site.paircoding.paircoding.entity.User;
 import site.paircoding.paircoding.entity.dto.GroupDto;
 import site.paircoding.paircoding.entity.dto.GroupInvitationDto;
+import site.paircoding.paircoding.entity.dto.GroupTeardownStatus;
 import site.paircoding.paircoding.entity.dto.GroupUserResponse;
 import site.paircoding.paircoding.entity.enums.Role;
 import site.paircoding.paircoding.global.exception.BadRequestException;
@@ -23,6 +24,7 @@ import site.paircoding.paircoding.repository.GroupRepository;
 import site.paircoding.paircoding.repository.GroupUserRepository;
 import site.paircoding.paircoding.repository.ProjectRepository;
 import site.paircoding.paircoding.repository.ProjectUserRepository;
+import site.paircoding.paircoding.repository.ProvisioningJobRepository;
 import site.paircoding.paircoding.util.RandomUtil;
 import site.paircoding.paircoding.util.RedisUtil;
 
@@ -34,7 +36,8 @@ public class GroupService {
   private final GroupRepository groupRepository;
   private final GroupUserRepository groupUserRepository;
   private final ProjectRepository projectRepository;
-  private final ProjectService projectService;
+  private final GroupTeardownService groupTeardownService;
+  private final ProvisioningJobRepository provisioningJobRepository;
   private final RedisUtil redisUtil;
   private static final String INVITATION_PREFIX = "groupId=%d";
   private static final String STATUS_PREFIX = "statusId=%d";
@@ -113,15 +116,23 @@ public class GroupService {
 
   //그룹 삭제
   @Transactional
-  public void deleteGroup(Integer groupId) {
+  public GroupTeardownStatus deleteGroup(User user, Integer groupId) {
     List<Project> projects = projectRepository.findAllByGroupId(groupId);
 
-    for (Project project : projects) {
-      projectService.deleteProject(groupId, project.getId());
-    }
-
+    // DB 는 그룹 단위로 한 번에 삭제
+    projectUserRepository.deleteAllInBatchByGroupId(groupId);
+    provisioningJobRepository.deleteAllInBatchByGroupId(groupId);
+    projectRepository.deleteAllInBatchByGroupId(groupId);
     groupUserRepository.deleteAllByGroupId(groupId);
     groupRepository.deleteById(groupId);
+
+    // 파드, nginx 설정 등은 커밋 이후 백그라운드에서 정리
+    return groupTeardownService.start(user, groupId, projects);
+  }
+
+  //그룹 삭제 진행 상태 조회
+  public GroupTeardownStatus getGroupDeletion(User user, Integer groupId) {
+    return groupTeardownService.getStatus(user, groupId);
   }
 
   //그룹 탈퇴
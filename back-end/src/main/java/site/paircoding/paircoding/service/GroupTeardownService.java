@@ -0,0 +1,141 @@
+package site.paircoding.paircoding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.User;
+import site.paircoding.paircoding.entity.dto.GroupTeardownStatus;
+import site.paircoding.paircoding.global.exception.NotFoundException;
+import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.NginxConfigUtil;
+import site.paircoding.paircoding.util.NodePortAllocator;
+import site.paircoding.paircoding.util.RedisUtil;
+
+/**
+ * 그룹 삭제 시 그룹의 모든 프로젝트 리소스를 한 번에 정리
+ * <p>
+ * 쿠버네티스 리소스는 GROUP_ID 라벨로 종류별 한 번씩 삭제하고, nginx 설정은 한 번의 SSH 세션에서 모두 지운 뒤 한 번만 reload 합니다. DB
+ * 삭제가 커밋된 뒤 백그라운드에서 실행되며 진행 상태는 Redis 에 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupTeardownService {
+
+  private static final String TEARDOWN_STATUS_KEY = "groupTeardown:%d"; // Redis 저장 키 형식
+  private static final String CALL_STATUS_KEY = "callStatusProjectId:%s"; // Redis 저장 키 형식
+  private static final long STATUS_EXPIRE_SECONDS = 24 * 60 * 60;
+
+  private final KubernetesUtil kubernetesUtil;
+  private final NginxConfigUtil nginxConfigUtil;
+  private final NodePortAllocator nodePortAllocator;
+  private final RedisUtil redisUtil;
+  private final ObjectMapper objectMapper;
+  private final ThreadPoolTaskExecutor teardownExecutor;
+
+  /**
+   * 삭제 작업 등록 - 호출한 트랜잭션이 커밋된 뒤 실행
+   *
+   * @param projects 삭제되는 프로젝트 목록 (DB 삭제 전에 조회한 값)
+   */
+  public GroupTeardownStatus start(User user, Integer groupId, List<Project> projects) {
+    List<String> deploymentNames = projects.stream().map(Project::getContainerId).toList();
+    List<Integer> nodePorts = projects.stream().map(Project::getNodePort).toList();
+    List<Integer> projectIds = projects.stream().map(Project::getId).toList();
+
+    GroupTeardownStatus status = new GroupTeardownStatus(groupId, user.getId(), "RUNNING",
+        "DATABASE", projects.size(), null);
+    save(status);
+
+    Runnable teardown = () -> run(status, deploymentNames, nodePorts, projectIds);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          submit(status, teardown);
+        }
+
+        @Override
+        public void afterCompletion(int completion) {
+          if (completion != STATUS_COMMITTED) {
+            save(status.next("FAILED", "DATABASE", "Database transaction rolled back"));
+          }
+        }
+      });
+    } else {
+      submit(status, teardown);
+    }
+    return status;
+  }
+
+  /**
+   * 삭제 진행 상태 조회 - 삭제를 요청한 유저만 조회 가능
+   */
+  public GroupTeardownStatus getStatus(User user, Integer groupId) {
+    Object value = redisUtil.get(TEARDOWN_STATUS_KEY.formatted(groupId));
+    if (value == null) {
+      throw new NotFoundException("Group deletion not found");
+    }
+
+    GroupTeardownStatus status;
+    try {
+      status = objectMapper.readValue((String) value, GroupTeardownStatus.class);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+    if (!status.requestedBy().equals(user.getId())) {
+      throw new NotFoundException("Group deletion not found");
+    }
+    return status;
+  }
+
+  private void submit(GroupTeardownStatus status, Runnable teardown) {
+    try {
+      teardownExecutor.execute(teardown);
+    } catch (RejectedExecutionException e) {
+      log.error("Group teardown rejected: groupId={}", status.groupId(), e);
+      save(status.next("FAILED", "KUBERNETES", "Teardown queue is full"));
+    }
+  }
+
+  private void run(GroupTeardownStatus status, List<String> deploymentNames,
+      List<Integer> nodePorts, List<Integer> projectIds) {
+    String step = "KUBERNETES";
+    try {
+      // 환경, 그룹 라벨로 리소스 종류별 한 번씩 삭제
+      save(status.next("RUNNING", step, null));
+      kubernetesUtil.deleteGroupResources(status.groupId());
+
+      step = "NGINX";
+      save(status.next("RUNNING", step, null));
+      nginxConfigUtil.deleteNginxConfigs(deploymentNames).join();
+
+      step = "CLEANUP";
+      save(status.next("RUNNING", step, null));
+      nodePorts.forEach(nodePortAllocator::release);
+      projectIds.forEach(projectId -> redisUtil.delete(CALL_STATUS_KEY.formatted(projectId)));
+
+      save(status.next("DONE", step, null));
+    } catch (RuntimeException e) {
+      log.error("Group teardown failed: groupId={}, step={}", status.groupId(), step, e);
+      save(status.next("FAILED", step, e.getMessage()));
+    }
+  }
+
+  private void save(GroupTeardownStatus status) {
+    try {
+      redisUtil.setex(TEARDOWN_STATUS_KEY.formatted(status.groupId()),
+          objectMapper.writeValueAsString(status), STATUS_EXPIRE_SECONDS);
+    } catch (JsonProcessingException e) {
+      log.error("Error converting group teardown status to JSON", e);
+    }
+  }
+}
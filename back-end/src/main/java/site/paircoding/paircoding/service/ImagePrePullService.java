@@ -0,0 +1,57 @@
+package site.paircoding.paircoding.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.service.ProjectCatalogService.CatalogChangedEvent;
+import site.paircoding.paircoding.util.ImagePrePuller;
+
+/**
+ * 프로젝트 이미지 목록이 바뀌면 모든 노드에 새 이미지를 미리 받도록 DaemonSet 갱신
+ * <p>
+ * 서버 시작 시, 카탈로그의 이미지 목록이 바뀌었을 때, 그리고 주기적으로 이미지 목록을 확인합니다. 목록이 그대로면 DaemonSet 을 건드리지
+ * 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImagePrePullService {
+
+  @Value("${image-prepull.enabled:true}")
+  private boolean enabled;
+
+  private final ProjectCatalogService projectCatalogService;
+  private final ImagePrePuller imagePrePuller;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onReady() {
+    refresh();
+  }
+
+  @EventListener
+  public void onCatalogChanged(CatalogChangedEvent event) {
+    refresh();
+  }
+
+  @Scheduled(fixedDelayString = "${image-prepull.refresh-ms:300000}",
+      initialDelayString = "${image-prepull.refresh-ms:300000}")
+  public void refresh() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      List<String> tags = projectCatalogService.getImageTags();
+      if (imagePrePuller.apply(tags)) {
+        log.info("Image pre-pull DaemonSet updated: {}", tags);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to update image pre-pull DaemonSet", e);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package site.paircoding.paircoding.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.paircoding.paircoding.entity.OutboxEvent;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.enums.LabelKey;
+import site.paircoding.paircoding.entity.enums.OutboxEventStatus;
+import site.paircoding.paircoding.entity.enums.OutboxEventType;
+import site.paircoding.paircoding.entity.enums.ProvisionStatus;
+import site.paircoding.paircoding.repository.OutboxEventRepository;
+import site.paircoding.paircoding.repository.ProjectRepository;
+import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.NginxConfigUtil;
+import site.paircoding.paircoding.util.NodePortAllocator;
+import site.paircoding.paircoding.util.RedisUtil;
+
+/**
+ * 프로젝트 작업의 외부 부수 효과(쿠버네티스, nginx, Redis) 실행
+ * <p>
+ * 요청 트랜잭션에서는 DB 변경과 함께 outbox 이벤트만 저장하고, 커밋된 뒤 워커 스레드에서 이벤트를 실행합니다. 트랜잭션이 롤백되면 이벤트도 함께
+ * 사라지고, 실행이 실패하면 대기 시간을 늘려가며 다시 시도합니다. 서버가 재시작되어도 DB 에 남은 이벤트는 스케줄러가 이어서 실행하므로, 각 처리는 여러 번
+ * 실행되어도 결과가 같도록 작성되어 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+  private static final String CALL_STATUS_KEY = "callStatusProjectId:%s"; // Redis 저장 키 형식
+  private static final String PROJECT_USERS_KEY = "project:%s:users"; // 프로젝트 접속 유저 ID 집합
+
+  // 이벤트별 최대 시도 횟수
+  @Value("${outbox.max-attempts:10}")
+  private int maxAttempts;
+
+  // 재시도 대기 시간 (시도 횟수만큼 곱해서 적용)
+  @Value("${outbox.retry-backoff-ms:2000}")
+  private long retryBackoffMillis;
+
+  // 워커가 이벤트를 점유하는 시간 - 한 이벤트 처리 시간보다 길어야 함
+  @Value("${outbox.lease-ms:60000}")
+  private long leaseMillis;
+
+  // 처리가 끝난 이벤트를 보관하는 시간
+  @Value("${outbox.retention-ms:86400000}")
+  private long retentionMillis;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ProjectRepository projectRepository;
+  private final KubernetesUtil kubernetesUtil;
+  private final NginxConfigUtil nginxConfigUtil;
+  private final NodePortAllocator nodePortAllocator;
+  private final RedisUtil redisUtil;
+  private final ThreadPoolTaskExecutor outboxExecutor;
+
+  /**
+   * 이벤트 저장 - 호출한 트랜잭션에 함께 저장되고, 커밋된 뒤 워커에 전달
+   */
+  public void publish(OutboxEventType type, Project project) {
+    OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+        .type(type)
+        .projectId(project.getId())
+        .groupId(project.getGroup().getId())
+        .deploymentName(project.getContainerId())
+        .nodePort(project.getNodePort())
+        .build());
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          submit(event.getId());
+        }
+      });
+    } else {
+      submit(event.getId());
+    }
+  }
+
+  /**
+   * 대기 중이거나 중단된 이벤트를 다시 워커에 전달
+   */
+  @Scheduled(fixedDelayString = "${outbox.sweep-ms:5000}")
+  public void resumePendingEvents() {
+    outboxEventRepository.findClaimableIds(LocalDateTime.now()).forEach(this::submit);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.purge-ms:3600000}")
+  public void purgeDoneEvents() {
+    int deleted = outboxEventRepository.deleteDoneBefore(
+        LocalDateTime.now().minus(retentionMillis, ChronoUnit.MILLIS));
+    if (deleted > 0) {
+      log.info("Purged {} dispatched outbox events", deleted);
+    }
+  }
+
+  private void submit(Long eventId) {
+    try {
+      outboxExecutor.execute(() -> run(eventId));
+    } catch (RejectedExecutionException e) {
+      // 이벤트는 DB 에 남아 있으므로 큐에 여유가 생기면 스케줄러가 다시 전달
+      log.info("Outbox queue is full, event deferred: eventId={}", eventId);
+    }
+  }
+
+  private void run(Long eventId) {
+    LocalDateTime now = LocalDateTime.now();
+    if (outboxEventRepository.claim(eventId, now, now.plus(leaseMillis, ChronoUnit.MILLIS)) == 0) {
+      return; // 이미 다른 워커가 실행 중이거나 끝난 이벤트
+    }
+
+    OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+    if (event == null) {
+      return;
+    }
+
+    try {
+      dispatch(event);
+    } catch (RuntimeException e) {
+      log.warn("Outbox event failed: key={}, type={}, projectId={}, attempt={}",
+          event.getEventKey(), event.getType(), event.getProjectId(), event.getAttempts() + 1, e);
+      fail(event, e);
+      return;
+    }
+
+    event.setStatus(OutboxEventStatus.DONE);
+    event.setLeaseUntil(null);
+    event.setLastError(null);
+    outboxEventRepository.save(event);
+  }
+
+  private void dispatch(OutboxEvent event) {
+    switch (event.getType()) {
+      case PROJECT_DELETED -> {
+        // 없는 리소스 삭제는 무시되므로 다시 실행해도 안전
+        kubernetesUtil.deletePod(LabelKey.DEPLOYMENT_NAME, event.getDeploymentName());
+        nginxConfigUtil.deleteNginxConfig(event.getDeploymentName()).join();
+        redisUtil.delete(CALL_STATUS_KEY.formatted(event.getProjectId()));
+        redisUtil.delete(PROJECT_USERS_KEY.formatted(event.getProjectId()));
+        // 리소스를 모두 지운 뒤 반납해야 다른 프로젝트와 포트가 겹치지 않음
+        if (event.getNodePort() != 0) {
+          nodePortAllocator.release(event.getNodePort());
+        }
+      }
+      case PROJECT_SCALED -> {
+        // 이벤트 시점의 값이 아니라 현재 DB 상태에 맞추므로 켜기/끄기 이벤트의 실행 순서와 관계없이 결과가 같음
+        Project project = projectRepository.findById(event.getProjectId()).orElse(null);
+        if (project == null || project.getProvisionStatus() != ProvisionStatus.READY) {
+          return;
+        }
+        kubernetesUtil.scaleDeployment(project.getContainerId(), project.getStatus() ? 1 : 0);
+      }
+    }
+  }
+
+  private void fail(OutboxEvent event, RuntimeException e) {
+    event.setAttempts(event.getAttempts() + 1);
+    event.setLastError(truncate(e.getMessage()));
+
+    if (event.getAttempts() < maxAttempts) {
+      // 대기 상태로 돌려두면 재시도 대기 시간이 지난 뒤 스케줄러가 다시 실행
+      event.setStatus(OutboxEventStatus.PENDING);
+      event.setLeaseUntil(LocalDateTime.now()
+          .plus(retryBackoffMillis * event.getAttempts(), ChronoUnit.MILLIS));
+    } else {
+      log.error("Outbox event gave up: key={}, type={}, projectId={}",
+          event.getEventKey(), event.getType(), event.getProjectId());
+      event.setStatus(OutboxEventStatus.FAILED);
+      event.setLeaseUntil(null);
+    }
+    outboxEventRepository.save(event);
+  }
+
+  private String truncate(String message) {
+    if (message == null) {
+      return null;
+    }
+    return message.length() > 500 ? message.substring(0, 500) : message;
+  }
+}
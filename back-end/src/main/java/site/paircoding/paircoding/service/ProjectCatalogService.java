@@ -0,0 +1,210 @@
+package site.paircoding.paircoding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.entity.Performance;
+import site.paircoding.paircoding.entity.ProjectImage;
+import site.paircoding.paircoding.entity.dto.ProjectLanguageDto;
+import site.paircoding.paircoding.entity.dto.ProjectOSDto;
+import site.paircoding.paircoding.entity.dto.ProjectPerformanceDto;
+import site.paircoding.paircoding.global.ApiResponse;
+import site.paircoding.paircoding.repository.PerformanceRepository;
+import site.paircoding.paircoding.repository.ProjectImageRepository;
+
+/**
+ * 프로젝트 이미지, 사양 카탈로그를 메모리에 유지
+ * <p>
+ * 서버 시작 시 전체를 읽어 변경할 수 없는 스냅샷을 만들고, 옵션 조회 응답과 ETag 도 미리 계산해 둡니다. 조회와 프로젝트 생성은 DB 를 거치지 않고
+ * 스냅샷만 봅니다. 카탈로그는 새 이미지를 배포할 때만 바뀌므로 주기적으로 또는 {@link #refresh()} 호출 시 다시 읽으며, 이미지 목록이 바뀌면
+ * {@link CatalogChangedEvent} 를 발행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectCatalogService {
+
+  private final ProjectImageRepository projectImageRepository;
+  private final PerformanceRepository performanceRepository;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private volatile Snapshot snapshot;
+
+  @PostConstruct
+  public void init() {
+    snapshot = load();
+    log.info("Project catalog loaded: {} images, {} performances",
+        snapshot.images().size(), snapshot.performances().size());
+  }
+
+  @Scheduled(fixedDelayString = "${catalog.refresh-ms:600000}",
+      initialDelayString = "${catalog.refresh-ms:600000}")
+  public void scheduledRefresh() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      // 이전 스냅샷을 그대로 사용
+      log.warn("Failed to refresh project catalog", e);
+    }
+  }
+
+  /**
+   * 카탈로그를 다시 읽어 스냅샷 교체
+   *
+   * @return 카탈로그가 바뀌었으면 true
+   */
+  public synchronized boolean refresh() {
+    Snapshot previous = snapshot;
+    Snapshot current = load();
+    if (current.version().equals(previous.version())) {
+      return false;
+    }
+
+    snapshot = current;
+    log.info("Project catalog refreshed: {} images, {} performances",
+        current.images().size(), current.performances().size());
+    if (!current.imageTags().equals(previous.imageTags())) {
+      eventPublisher.publishEvent(new CatalogChangedEvent(current.imageTags()));
+    }
+    return true;
+  }
+
+  public CachedResponse<List<ProjectLanguageDto>> getLanguages() {
+    return snapshot.languages();
+  }
+
+  public CachedResponse<List<ProjectOSDto>> getOS(String language) {
+    Snapshot current = snapshot;
+    return current.osByLanguage().getOrDefault(language, current.emptyOS());
+  }
+
+  public CachedResponse<List<ProjectPerformanceDto>> getPerformances() {
+    return snapshot.performanceList();
+  }
+
+  public Optional<ProjectImage> findImage(String language, String os) {
+    return Optional.ofNullable(snapshot.images().get(imageKey(language, os)));
+  }
+
+  public Optional<Performance> findPerformance(Integer performanceId) {
+    return Optional.ofNullable(snapshot.performances().get(performanceId));
+  }
+
+  public List<String> getImageTags() {
+    return snapshot.imageTags();
+  }
+
+  private Snapshot load() {
+    List<ProjectImage> images = projectImageRepository.findAll().stream()
+        .sorted(Comparator.comparing(ProjectImage::getTag))
+        .toList();
+    List<Performance> performances = performanceRepository.findAll().stream()
+        .sorted(Comparator.comparing(Performance::getId))
+        .toList();
+
+    List<ProjectLanguageDto> languages = images.stream()
+        .map(ProjectImage::getLanguage)
+        .distinct()
+        .sorted()
+        .map(ProjectLanguageDto::new)
+        .toList();
+
+    Map<String, CachedResponse<List<ProjectOSDto>>> osByLanguage = new HashMap<>();
+    images.stream()
+        .collect(Collectors.groupingBy(ProjectImage::getLanguage))
+        .forEach((language, languageImages) -> osByLanguage.put(language, cache(
+            languageImages.stream().map(ProjectImage::getOs).sorted().map(ProjectOSDto::new)
+                .toList())));
+
+    List<ProjectPerformanceDto> performanceList = performances.stream()
+        .map(performance -> new ProjectPerformanceDto(performance.getId(),
+            performance.getCpuDescription(), performance.getMemoryDescription(),
+            performance.getStorageDescription()))
+        .toList();
+
+    Map<String, ProjectImage> imagesByKey = new HashMap<>();
+    images.forEach(image -> imagesByKey.put(imageKey(image.getLanguage(), image.getOs()), image));
+    Map<Integer, Performance> performancesById = new HashMap<>();
+    performances.forEach(performance -> performancesById.put(performance.getId(), performance));
+
+    CachedResponse<List<ProjectLanguageDto>> languageResponse = cache(languages);
+    CachedResponse<List<ProjectPerformanceDto>> performanceResponse = cache(performanceList);
+    // 응답에 없는 값(실행 명령, 포트, 자원 양)이 바뀌어도 스냅샷을 교체하도록 전체 내용으로 버전 계산
+    String version = hash(Stream.concat(
+            images.stream().map(image -> String.join("|", image.getTag(), image.getLanguage(),
+                image.getOs(), String.valueOf(image.getPort()), image.getDefaultRunCommand())),
+            performances.stream().map(performance -> String.join("|",
+                String.valueOf(performance.getId()), performance.getCpu(),
+                performance.getMemory(), performance.getStorage(), performanceResponse.etag())))
+        .collect(Collectors.joining("\n")));
+
+    return new Snapshot(version, languageResponse, Map.copyOf(osByLanguage),
+        cache(List.of()), performanceResponse, Map.copyOf(imagesByKey),
+        Map.copyOf(performancesById), images.stream().map(ProjectImage::getTag).toList());
+  }
+
+  // 응답 본문을 미리 만들고, 직렬화한 내용의 해시를 ETag 로 사용
+  private <T> CachedResponse<T> cache(T data) {
+    try {
+      return new CachedResponse<>(ApiResponse.success(data),
+          hash(objectMapper.writeValueAsString(data)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("카탈로그 응답 직렬화 오류", e);
+    }
+  }
+
+  private String imageKey(String language, String os) {
+    return language + "/" + os;
+  }
+
+  private String hash(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)), 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 미리 만들어 둔 응답 본문과 ETag
+   */
+  public record CachedResponse<T>(ApiResponse<T> body, String etag) {
+
+  }
+
+  /**
+   * 카탈로그의 이미지 목록이 바뀜
+   */
+  public record CatalogChangedEvent(List<String> imageTags) {
+
+  }
+
+  private record Snapshot(String version,
+                          CachedResponse<List<ProjectLanguageDto>> languages,
+                          Map<String, CachedResponse<List<ProjectOSDto>>> osByLanguage,
+                          CachedResponse<List<ProjectOSDto>> emptyOS,
+                          CachedResponse<List<ProjectPerformanceDto>> performanceList,
+                          Map<String, ProjectImage> images,
+                          Map<Integer, Performance> performances,
+                          List<String> imageTags) {
+
+  }
+}
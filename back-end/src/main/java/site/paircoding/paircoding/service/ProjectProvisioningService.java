@@ -0,0 +1,298 @@
+package site.paircoding.paircoding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.ProvisioningJob;
+import site.paircoding.paircoding.entity.dto.WorkspaceReadiness;
+import site.paircoding.paircoding.entity.enums.LabelKey;
+import site.paircoding.paircoding.entity.enums.ProvisionStatus;
+import site.paircoding.paircoding.entity.enums.ProvisioningJobStatus;
+import site.paircoding.paircoding.entity.enums.ProvisioningStep;
+import site.paircoding.paircoding.repository.ProjectRepository;
+import site.paircoding.paircoding.repository.ProvisioningJobRepository;
+import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.KubernetesUtil.NodePortConflictException;
+import site.paircoding.paircoding.util.NginxConfigUtil;
+import site.paircoding.paircoding.util.NodePortAllocator;
+import site.paircoding.paircoding.util.RedisUtil;
+
+/**
+ * 프로젝트 생성 작업 실행
+ * <p>
+ * 프로젝트 생성 요청은 DB 에 작업만 등록하고, 실제 리소스 생성은 워커 스레드에서 단계별로 진행합니다. 단계가 끝날 때마다 진행 상황을 DB 에 기록하므로
+ * 실패하거나 서버가 재시작되어도 마지막으로 끝난 단계 다음부터 이어서 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectProvisioningService {
+
+  private static final String CALL_STATUS_KEY = "callStatusProjectId:%s"; // Redis 저장 키 형식
+  private static final String PROJECT_STATUS_DESTINATION = "/sub/project-status/groups/%d";
+
+  // 단계별 최대 시도 횟수
+  @Value("${provisioning.max-attempts:5}")
+  private int maxAttempts;
+
+  // 재시도 대기 시간 (시도 횟수만큼 곱해서 적용)
+  @Value("${provisioning.retry-backoff-ms:3000}")
+  private long retryBackoffMillis;
+
+  // 작업 공간(PVC 바인딩, Deployment Available)이 준비될 때까지 기다리는 최대 시간
+  @Value("${provisioning.readiness-timeout-ms:90000}")
+  private long readinessTimeoutMillis;
+
+  // 워커가 작업을 점유하는 시간 - 단계마다 갱신, 준비 대기 시간보다 길어야 함
+  @Value("${provisioning.lease-ms:120000}")
+  private long leaseMillis;
+
+  // nginx 반영을 기다리는 최대 시간 - 점유 시간보다 짧아야 다른 워커가 같은 작업을 동시에 가져가지 않음
+  @Value("${provisioning.nginx-timeout-ms:60000}")
+  private long nginxTimeoutMillis;
+
+  private final ProvisioningJobRepository provisioningJobRepository;
+  private final ProjectRepository projectRepository;
+  private final KubernetesUtil kubernetesUtil;
+  private final NginxConfigUtil nginxConfigUtil;
+  private final NodePortAllocator nodePortAllocator;
+  private final RedisUtil redisUtil;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+  private final ThreadPoolTaskExecutor provisioningExecutor;
+
+  /**
+   * 생성 작업 등록 - 호출한 트랜잭션이 커밋된 뒤 워커에 전달
+   */
+  public void enqueue(Project project) {
+    ProvisioningJob job = provisioningJobRepository.save(ProvisioningJob.builder()
+        .projectId(project.getId())
+        .groupId(project.getGroup().getId())
+        .deploymentName(project.getContainerId())
+        .build());
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          submit(job.getId());
+        }
+      });
+    } else {
+      submit(job.getId());
+    }
+  }
+
+  /**
+   * 대기 중이거나 중단된 작업을 다시 워커에 전달
+   */
+  @Scheduled(fixedDelayString = "${provisioning.sweep-ms:5000}")
+  public void resumePendingJobs() {
+    provisioningJobRepository.findClaimableIds(LocalDateTime.now()).forEach(this::submit);
+  }
+
+  private void submit(Long jobId) {
+    try {
+      provisioningExecutor.execute(() -> run(jobId));
+    } catch (RejectedExecutionException e) {
+      // 작업은 DB 에 남아 있으므로 큐에 여유가 생기면 스케줄러가 다시 전달
+      log.info("Provisioning queue is full, job deferred: jobId={}", jobId);
+    }
+  }
+
+  private void run(Long jobId) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime leaseUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+    if (provisioningJobRepository.claim(jobId, now, leaseUntil) == 0) {
+      return; // 이미 다른 워커가 실행 중이거나 끝난 작업
+    }
+
+    ProvisioningJob job = provisioningJobRepository.findById(jobId).orElse(null);
+    if (job == null) {
+      return;
+    }
+
+    try {
+      runSteps(job);
+    } catch (RuntimeException e) {
+      // 작업 기록 자체가 실패한 경우 - 점유가 만료되면 스케줄러가 다시 실행
+      log.error("Provisioning job interrupted: jobId={}", jobId, e);
+    }
+  }
+
+  private void runSteps(ProvisioningJob job) {
+    while (job.getStep() != ProvisioningStep.COMPLETED) {
+      Project project = projectRepository.findWithImageAndPerformanceById(job.getProjectId())
+          .orElse(null);
+      if (project == null) {
+        // 생성 중에 프로젝트가 삭제됨 - 이미 만든 리소스 정리
+        cleanUp(job);
+        return;
+      }
+
+      ProvisioningStep step = job.getStep();
+      sendProgress(job, "provisioning", step);
+
+      job.setLeaseUntil(LocalDateTime.now().plus(leaseMillis, ChronoUnit.MILLIS));
+      provisioningJobRepository.save(job);
+
+      try {
+        execute(step, job, project);
+      } catch (RuntimeException e) {
+        log.warn("Provisioning step failed: projectId={}, step={}, attempt={}",
+            job.getProjectId(), step, job.getAttempts() + 1, e);
+        fail(job, project, e);
+        return;
+      }
+
+      if (!projectRepository.existsById(job.getProjectId())) {
+        cleanUp(job);
+        return;
+      }
+      job.setStep(step.next());
+      job.setAttempts(0);
+      job.setLastError(null);
+      provisioningJobRepository.save(job);
+    }
+
+    Project project = projectRepository.findById(job.getProjectId()).orElse(null);
+    if (project == null) {
+      cleanUp(job);
+      return;
+    }
+    project.setProvisionStatus(ProvisionStatus.READY);
+    projectRepository.save(project);
+
+    job.setStatus(ProvisioningJobStatus.DONE);
+    job.setLeaseUntil(null);
+    provisioningJobRepository.save(job);
+
+    sendProgress(job, "ready", ProvisioningStep.COMPLETED);
+  }
+
+  private void execute(ProvisioningStep step, ProvisioningJob job, Project project) {
+    switch (step) {
+      case NODE_PORT -> {
+        // 이전 시도에서 이미 저장된 포트가 있으면 그대로 사용
+        if (project.getNodePort() == 0) {
+          project.setNodePort(nodePortAllocator.allocate());
+          projectRepository.save(project);
+        }
+      }
+      // 웜 풀에서 가져온 작업 공간이면 이미 있는 리소스는 건너뛰고 서비스만 생성됨
+      case KUBERNETES_RESOURCES -> {
+        try {
+          kubernetesUtil.createPod(job.getGroupId(), project.getId(), project.getContainerId(),
+              project.getProjectImage(), project.getPerformance(), project.getNodePort());
+        } catch (NodePortConflictException e) {
+          // 저장된 포트를 그대로 재시도하면 계속 실패하므로 새 포트를 받아 두고 다음 시도에 사용
+          nodePortAllocator.markUsed(e.getNodePort());
+          project.setNodePort(nodePortAllocator.allocate());
+          projectRepository.save(project);
+          throw e;
+        }
+      }
+      // 다른 변경과 함께 reload 되어 실제로 반영될 때까지 대기
+      // SSH 연결이 멈춰도 점유 시간이 끝나기 전에 실패로 처리해 재시도하도록 함
+      case NGINX_CONFIG -> nginxConfigUtil.createNginxConfig(
+              nginxConfigUtil.createSubdomain(project.getContainerId()), project.getNodePort())
+          .orTimeout(Math.min(nginxTimeoutMillis, leaseMillis / 2), TimeUnit.MILLISECONDS)
+          .join();
+      case WORKSPACE_READY -> {
+        WorkspaceReadiness readiness = kubernetesUtil.waitForWorkspaceReady(
+            project.getContainerId(), Duration.ofMillis(readinessTimeoutMillis));
+        log.info("Workspace readiness: {}", readiness);
+        if (!readiness.isReady()) {
+          throw new RuntimeException("작업 공간 준비 시간 초과");
+        }
+      }
+      case CALL_STATUS -> redisUtil.set(CALL_STATUS_KEY.formatted(project.getId()), "inactive");
+      case COMPLETED -> {
+      }
+    }
+  }
+
+  private void fail(ProvisioningJob job, Project project, RuntimeException e) {
+    job.setAttempts(job.getAttempts() + 1);
+    job.setLastError(truncate(e.getMessage()));
+
+    if (job.getAttempts() < maxAttempts) {
+      // 대기 상태로 돌려두면 재시도 대기 시간이 지난 뒤 스케줄러가 다시 실행
+      job.setStatus(ProvisioningJobStatus.PENDING);
+      job.setLeaseUntil(LocalDateTime.now()
+          .plus(retryBackoffMillis * job.getAttempts(), ChronoUnit.MILLIS));
+      provisioningJobRepository.save(job);
+      return;
+    }
+
+    job.setStatus(ProvisioningJobStatus.FAILED);
+    job.setLeaseUntil(null);
+    provisioningJobRepository.save(job);
+
+    // 더 이상 재시도하지 않으므로 만들어 둔 리소스와 포트를 돌려줌 - 작업 기록은 원인 확인용으로 남김
+    log.error("Provisioning failed permanently, releasing resources: projectId={}",
+        job.getProjectId());
+    deleteResources(job);
+    if (project.getNodePort() != 0) {
+      nodePortAllocator.release(project.getNodePort());
+      project.setNodePort(0);
+    }
+    project.setProvisionStatus(ProvisionStatus.FAILED);
+    projectRepository.save(project);
+
+    sendProgress(job, "failed", job.getStep());
+  }
+
+  private void cleanUp(ProvisioningJob job) {
+    log.info("Project deleted during provisioning, cleaning up: projectId={}",
+        job.getProjectId());
+    deleteResources(job);
+    provisioningJobRepository.deleteByProjectId(job.getProjectId());
+  }
+
+  private void deleteResources(ProvisioningJob job) {
+    try {
+      // 삭제 시점 이후에 만들어졌을 수 있는 리소스까지 정리 (없는 리소스 삭제는 무시됨)
+      kubernetesUtil.deletePod(LabelKey.DEPLOYMENT_NAME, job.getDeploymentName());
+      nginxConfigUtil.deleteNginxConfig(job.getDeploymentName());
+    } catch (RuntimeException e) {
+      log.warn("Failed to clean up provisioning resources: projectId={}", job.getProjectId(), e);
+    }
+  }
+
+  private void sendProgress(ProvisioningJob job, String status, ProvisioningStep step) {
+    Map<String, String> message = new HashMap<>();
+    message.put("status", status);
+    message.put("projectId", String.valueOf(job.getProjectId()));
+    message.put("step", step.name());
+
+    try {
+      messagingTemplate.convertAndSend(PROJECT_STATUS_DESTINATION.formatted(job.getGroupId()),
+          objectMapper.writeValueAsString(message));
+    } catch (Exception e) {
+      log.error("Error converting provisioning message to JSON", e);
+    }
+  }
+
+  private String truncate(String message) {
+    if (message == null) {
+      return null;
+    }
+    return message.length() > 500 ? message.substring(0, 500) : message;
+  }
+}
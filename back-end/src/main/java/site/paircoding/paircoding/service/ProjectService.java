@@ -1,10 +1,15 @@
 package site.paircoding.paircoding.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import site.paircoding.paircoding.config.AppConfig;
 import site.paircoding.paircoding.entity.Group;
 import site.paircoding.paircoding.entity.GroupUser;
@@ -14,27 +19,26 @@ import site.paircoding.paircoding.entity.ProjectImage;
 import site.paircoding.paircoding.entity.ProjectUser;
 import site.paircoding.paircoding.entity.ProjectUserId;
 import site.paircoding.paircoding.entity.User;
+import site.paircoding.paircoding.entity.dto.BulkScaleResult;
 import site.paircoding.paircoding.entity.dto.GroupUserResponse;
 import site.paircoding.paircoding.entity.dto.ProjectCreateRequest;
-import site.paircoding.paircoding.entity.dto.ProjectLanguageDto;
-import site.paircoding.paircoding.entity.dto.ProjectOSDto;
-import site.paircoding.paircoding.entity.dto.ProjectPerformanceDto;
+import site.paircoding.paircoding.entity.dto.ProjectMember;
+import site.paircoding.paircoding.entity.dto.ProjectStatusDto;
 import site.paircoding.paircoding.entity.dto.ProjectUserDto;
 import site.paircoding.paircoding.entity.dto.ProjectWithUsersResponse;
-import site.paircoding.paircoding.entity.enums.LabelKey;
+import site.paircoding.paircoding.entity.enums.OutboxEventType;
+import site.paircoding.paircoding.entity.enums.ProvisionStatus;
 import site.paircoding.paircoding.entity.enums.Role;
 import site.paircoding.paircoding.global.exception.BadRequestException;
 import site.paircoding.paircoding.global.exception.NotFoundException;
 import site.paircoding.paircoding.repository.GroupRepository;
 import site.paircoding.paircoding.repository.GroupUserRepository;
-import site.paircoding.paircoding.repository.PerformanceRepository;
-import site.paircoding.paircoding.repository.ProjectImageRepository;
 import site.paircoding.paircoding.repository.ProjectRepository;
 import site.paircoding.paircoding.repository.ProjectUserRepository;
+import site.paircoding.paircoding.repository.ProvisioningJobRepository;
 import site.paircoding.paircoding.repository.UserRepository;
-import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.DeploymentNameGenerator;
 import site.paircoding.paircoding.util.NginxConfigUtil;
-import site.paircoding.paircoding.util.RandomUtil;
 import site.paircoding.paircoding.util.RedisUtil;
 
 @Service
@@ -44,28 +48,26 @@ public class ProjectService {
   private final AppConfig appConfig;
   private final UserRepository userRepository;
   private final GroupRepository groupRepository;
-  private final ProjectImageRepository projectImageRepository;
-  private final PerformanceRepository performanceRepository;
-  private final KubernetesUtil kubernetesUtil;
+  private final ProjectCatalogService projectCatalogService;
   private final NginxConfigUtil nginxConfigUtil;
   private final ProjectRepository projectRepository;
   private final GroupUserRepository groupUserRepository;
   private final ProjectUserRepository projectUserRepository;
   private final RedisUtil redisUtil;
+  private final ProvisioningJobRepository provisioningJobRepository;
+  private final ProjectProvisioningService projectProvisioningService;
+  private final WarmPoolService warmPoolService;
+  private final DeploymentNameGenerator deploymentNameGenerator;
+  private final ProjectStatusTracker projectStatusTracker;
+  private final OutboxDispatcher outboxDispatcher;
+  private final TransactionTemplate transactionTemplate;
   private static final String CALL_STATUS_KEY = "callStatusProjectId:%s"; // Redis 저장 키 형식
-  private static final String PROJECT_USER_KEY = "project:%s:user:%s"; // Redis 저장 키 형식
+  private static final String PROJECT_USERS_KEY = "project:%s:users"; // 프로젝트 접속 유저 ID 집합
+  private static final String DEPLOYMENT_NAME_PREFIX = "p-";
+  private static final String AUTO_STOPPED_KEY = "autoStoppedProjectId:%d"; // Redis 저장 키 형식
 
-  public List<ProjectLanguageDto> getLanguage() {
-    return projectImageRepository.findDistinctLanguage();
-  }
-
-  public List<ProjectOSDto> getOS(String language) {
-    return projectImageRepository.findOsByLanguage(language);
-  }
-
-  public List<ProjectPerformanceDto> getPerformance() {
-    return performanceRepository.findAllPerformance();
-  }
+  @Value("${workspace.idle.auto-stop-default:false}")
+  private boolean autoStopDefault;
 
   public List<GroupUserResponse> getMemberUsers(Integer groupId) {
     List<GroupUser> groupMemberUsers = groupUserRepository.findGroupUserByGroupIdAndRole(groupId,
@@ -81,14 +83,17 @@ public class ProjectService {
         .toList();
   }
 
-  @Transactional
+  /**
+   * 프로젝트 생성
+   * <p>
+   * 웜 풀 할당과 파드명 예약은 쿠버네티스, Redis 호출이므로 DB 연결을 잡지 않도록 트랜잭션 밖에서 먼저 수행하고, 저장이 실패하면 가져간 작업
+   * 공간을 삭제합니다.
+   */
   public Project createProject(Integer groupId, ProjectCreateRequest request) {
     // 그룹 확인
-    Group group = groupRepository.findById(groupId)
-        .orElseThrow(() -> new NotFoundException("Group not found"));
-
-    // 유저 확인
-    List<User> users = userRepository.findAllById(request.getUserIds());
+    if (!groupRepository.existsById(groupId)) {
+      throw new NotFoundException("Group not found");
+    }
 
     // 멤버 권한인 그룹 유저 리스트 확인
     Set<Integer> groupMemberUsers = groupUserRepository.findUserIdsByGroupIdAndRole(groupId,
@@ -101,18 +106,36 @@ public class ProjectService {
     }
 
     // 언어와 os에 해당하는 이미지 확인
-    ProjectImage projectImage = projectImageRepository.findByLanguageAndOs(request.getLanguage(),
+    ProjectImage projectImage = projectCatalogService.findImage(request.getLanguage(),
         request.getOs()).orElseThrow(() -> new BadRequestException("Project image not found"));
 
     // 사양 확인
-    Performance performance = performanceRepository.findById(request.getPerformanceId())
+    Performance performance = projectCatalogService.findPerformance(request.getPerformanceId())
         .orElseThrow(() -> new BadRequestException("Performance not found"));
 
-    // 고유한 파드명 생성
-    String deploymentName;
-    do {
-      deploymentName = request.getName() + "-" + RandomUtil.generateRandomString();
-    } while (kubernetesUtil.isExists(deploymentName));
+    // 웜 풀에 미리 만들어 둔 작업 공간이 있으면 가져가고, 없으면 고유한 파드명 예약
+    String warmWorkspace = warmPoolService.claim(projectImage, performance, groupId);
+    String deploymentName = warmWorkspace != null ? warmWorkspace
+        : deploymentNameGenerator.reserve(DEPLOYMENT_NAME_PREFIX);
+
+    try {
+      return transactionTemplate.execute(status -> saveProject(groupId, request, projectImage,
+          performance, deploymentName));
+    } catch (RuntimeException e) {
+      if (warmWorkspace != null) {
+        warmPoolService.release(warmWorkspace);
+      }
+      throw e;
+    }
+  }
+
+  private Project saveProject(Integer groupId, ProjectCreateRequest request,
+      ProjectImage projectImage, Performance performance, String deploymentName) {
+    Group group = groupRepository.findById(groupId)
+        .orElseThrow(() -> new NotFoundException("Group not found"));
+
+    // 유저 확인
+    List<User> users = userRepository.findAllById(request.getUserIds());
 
     // 프로젝트 생성
     Project project = Project.builder()
@@ -123,6 +146,8 @@ public class ProjectService {
         .name(request.getName())
         .containerId(deploymentName)
         .status(true)
+        .autoStop(request.getAutoStop() != null ? request.getAutoStop() : autoStopDefault)
+        .provisionStatus(ProvisionStatus.PROVISIONING)
         .build();
 
     // 유효한 유저들을 필터링 (해당 유저가 그룹에 속한 유저인지 확인)
@@ -142,17 +167,8 @@ public class ProjectService {
     projectRepository.save(project);
     projectUserRepository.saveAll(projectUsers);
 
-    // 사용 가능한 nodePort 조회
-    project.setNodePort(kubernetesUtil.getAvailableNodePort());
-
-    // 프로젝트 생성 확인 후 파드 생성 요청
-    kubernetesUtil.createPod(group.getId(), deploymentName, projectImage, performance,
-        project.getNodePort());
-
-    // 서브도메인 설정 - nginx config 파일 생성 및 reload
-    nginxConfigUtil.createNginxConfig(subdomain, project.getNodePort());
-
-    redisUtil.set(CALL_STATUS_KEY.formatted(project.getId()), "inactive");
+    // 파드, nginx 설정 등 리소스 생성은 커밋 이후 워커에서 진행
+    projectProvisioningService.enqueue(project);
 
     return project;
   }
@@ -166,55 +182,11 @@ public class ProjectService {
     GroupUser groupUser = groupUserRepository.findByGroupIdAndUserId(groupId, user.getId())
         .orElseThrow(() -> new BadRequestException("Group user not found"));
 
-    List<Project> projects;
-    if (groupUser.getRole() == Role.MEMBER) {
-      List<ProjectUser> projectUsers = projectUserRepository.findByUser(user);
-      projects = projectUsers.stream()
-          .map(ProjectUser::getProject)
-          .filter(project -> project.getGroup().getId().equals(groupId))
-          .toList();
-    } else {
-      projects = projectRepository.findByGroupId(groupId);
-    }
-
-    return projects.stream()
-        .map(project -> {
-          List<ProjectUser> projectUsers = projectUserRepository.findByProject(project);
-          List<ProjectUserDto> userDtos = projectUsers.stream()
-              .map(projectUser -> {
-                String userId = String.valueOf(projectUser.getUser().getId());
-                String projectId = String.valueOf(project.getId()); // 현재 프로젝트 ID 가져오기
-                String redisKey = PROJECT_USER_KEY.formatted(projectId, userId);
-
-                boolean status = redisUtil.hasKey(redisKey); // ✅ Redis에서 접속 여부 확인
-
-                return ProjectUserDto.builder()
-                    .id(projectUser.getUser().getId())
-                    .name(projectUser.getUser().getName())
-                    .image(projectUser.getUser().getImage())
-                    .email(projectUser.getUser().getEmail())
-                    .status(status) // ✅ Redis 상태 반영
-                    .build();
-              })
-              .toList();
-
-          // ✅ Redis에서 CALL_STATUS_KEY 값 조회
-          String callStatusKey = CALL_STATUS_KEY.formatted(project.getId());
-          String callStatus = (String) redisUtil.get(callStatusKey);
+    List<Project> projects = groupUser.getRole() == Role.MEMBER
+        ? projectRepository.findWithDetailsByGroupIdAndMemberId(groupId, user.getId())
+        : projectRepository.findWithDetailsByGroupId(groupId);
 
-          // ✅ 값이 null이면 "inactive"으로 설정
-          if (callStatus == null) {
-            redisUtil.set(callStatusKey, "inactive");
-            callStatus = "inactive";
-          }
-
-          return ProjectWithUsersResponse.builder()
-              .project(project)
-              .users(userDtos)
-              .callStatus(callStatus) // ✅ Redis 상태 반영
-              .build();
-        })
-        .toList();
+    return toResponses(projects);
   }
 
 
@@ -227,38 +199,61 @@ public class ProjectService {
       projectUserRepository.findProjectUserByProjectIdAndUser(projectId, user)
           .orElseThrow(() -> new BadRequestException("Project user not found"));
     }
-    List<ProjectUser> projectUsers = projectUserRepository.findByProject(project);
-    List<ProjectUserDto> userDtos = projectUsers.stream()
-        .map(projectUser -> {
-          String userId = String.valueOf(projectUser.getUser().getId());
-          String redisKey = PROJECT_USER_KEY.formatted(projectId, userId);
-
-          boolean status = redisUtil.hasKey(redisKey); // ✅ Redis에서 접속 여부 확인
-
-          return ProjectUserDto.builder()
-              .id(projectUser.getUser().getId())
-              .name(projectUser.getUser().getName())
-              .image(projectUser.getUser().getImage())
-              .email(projectUser.getUser().getEmail())
-              .status(status) // ✅ Redis 상태 반영
+    return toResponses(List.of(project)).get(0);
+  }
+
+  /**
+   * 프로젝트에 멤버, 멤버별 접속 여부, 통화 상태를 붙임
+   * <p>
+   * 프로젝트 수와 관계없이 멤버는 한 번의 쿼리로, 접속 유저 집합과 통화 상태는 한 번의 파이프라인으로 조회합니다.
+   */
+  private List<ProjectWithUsersResponse> toResponses(List<Project> projects) {
+    if (projects.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Integer, List<ProjectMember>> members = projectUserRepository
+        .findMembersByProjectIdIn(projects.stream().map(Project::getId).toList())
+        .stream()
+        .collect(Collectors.groupingBy(ProjectMember::projectId));
+
+    // 프로젝트마다 [통화 상태, 접속 유저 집합] 순서로 결과가 들어옴
+    List<Object> results = redisUtil.executePipelined(operations -> projects.forEach(project -> {
+      operations.opsForValue().get(CALL_STATUS_KEY.formatted(project.getId()));
+      operations.opsForSet().members(PROJECT_USERS_KEY.formatted(project.getId()));
+    }));
+    Map<Integer, Object> callStatuses = new HashMap<>();
+    Map<Integer, Set<?>> onlineUsers = new HashMap<>();
+    for (int i = 0; i < projects.size(); i++) {
+      Integer projectId = projects.get(i).getId();
+      callStatuses.put(projectId, results.get(2 * i));
+      onlineUsers.put(projectId, results.get(2 * i + 1) instanceof Set<?> users ? users : Set.of());
+    }
+
+    return projects.stream()
+        .map(project -> {
+          List<ProjectUserDto> userDtos = members.getOrDefault(project.getId(), List.of())
+              .stream()
+              .map(member -> ProjectUserDto.builder()
+                  .id(member.userId())
+                  .name(member.name())
+                  .image(member.image())
+                  .email(member.email())
+                  .status(onlineUsers.get(project.getId())
+                      .contains(String.valueOf(member.userId())))
+                  .build())
+              .toList();
+
+          // 통화 상태가 기록되지 않았으면 "inactive"
+          Object callStatus = callStatuses.get(project.getId());
+
+          return ProjectWithUsersResponse.builder()
+              .project(project)
+              .users(userDtos)
+              .callStatus(callStatus != null ? (String) callStatus : "inactive")
               .build();
         })
         .toList();
-    // ✅ Redis에서 CALL_STATUS_KEY 값 조회
-    String callStatusKey = CALL_STATUS_KEY.formatted(projectId);
-    String callStatus = (String) redisUtil.get(callStatusKey);
-
-    // ✅ 값이 null이면 "inactive"으로 설정
-    if (callStatus == null) {
-      redisUtil.set(callStatusKey, "inactive");
-      callStatus = "inactive";
-    }
-
-    return ProjectWithUsersResponse.builder()
-        .project(project)
-        .users(userDtos)
-        .callStatus(callStatus) // ✅ Redis 상태 반영
-        .build();
   }
 
   @Transactional
@@ -271,21 +266,26 @@ public class ProjectService {
 
     // 프로젝트 삭제
     projectRepository.delete(project);
+    provisioningJobRepository.deleteByProjectId(projectId);
 
-    // pod 삭제
-    kubernetesUtil.deletePod(LabelKey.DEPLOYMENT_NAME, project.getContainerId());
-
-    // nginx config 삭제
-    nginxConfigUtil.deleteNginxConfig(project.getContainerId());
-
-    redisUtil.delete(CALL_STATUS_KEY.formatted(projectId));
+    // pod, nginx 설정, nodePort, Redis 상태 정리는 커밋 이후 실행
+    outboxDispatcher.publish(OutboxEventType.PROJECT_DELETED, project);
   }
 
-  public boolean getProjectStatus(Integer groupId, Integer projectId) {
+  public ProjectStatusDto getProjectStatus(Integer groupId, Integer projectId) {
+    ProjectStatusDto status = projectStatusTracker.getStatus(groupId, projectId);
+    if (status != null) {
+      return status;
+    }
+
+    // 아직 Deployment 가 만들어지지 않은 프로젝트 (생성 중, 생성 실패)
     Project project = projectRepository.findByGroupIdAndProjectId(groupId, projectId)
         .orElseThrow(() -> new BadRequestException("Project not found"));
 
-    return project.getStatus();
+    return ProjectStatusDto.builder()
+        .status(project.getStatus())
+        .phase(project.getProvisionStatus() == ProvisionStatus.FAILED ? "Failed" : "Pending")
+        .build();
   }
 
   @Transactional
@@ -293,6 +293,10 @@ public class ProjectService {
     Project project = projectRepository.findByGroupIdAndProjectId(groupId, projectId)
         .orElseThrow(() -> new BadRequestException("Project not found"));
 
+    if (project.getProvisionStatus() != ProvisionStatus.READY) {
+      throw new BadRequestException("Project is not provisioned");
+    }
+
     if (project.getStatus()) {
       throw new BadRequestException("Project is already on");
     }
@@ -300,7 +304,9 @@ public class ProjectService {
     project.setStatus(true);
     projectRepository.save(project);
 
-    kubernetesUtil.scaleDeployment(project.getContainerId(), 1);
+    // replica 변경은 커밋 이후 실행
+    outboxDispatcher.publish(OutboxEventType.PROJECT_SCALED, project);
+    redisUtil.delete(AUTO_STOPPED_KEY.formatted(projectId));
   }
 
   @Transactional
@@ -308,6 +314,10 @@ public class ProjectService {
     Project project = projectRepository.findByGroupIdAndProjectId(groupId, projectId)
         .orElseThrow(() -> new BadRequestException("Project not found"));
 
+    if (project.getProvisionStatus() != ProvisionStatus.READY) {
+      throw new BadRequestException("Project is not provisioned");
+    }
+
     if (!project.getStatus()) {
       throw new BadRequestException("project is not on");
     }
@@ -315,21 +325,43 @@ public class ProjectService {
     project.setStatus(false);
     projectRepository.save(project);
 
-    kubernetesUtil.scaleDeployment(project.getContainerId(), 0);
+    // replica 변경은 커밋 이후 실행
+    outboxDispatcher.publish(OutboxEventType.PROJECT_SCALED, project);
+    // 직접 중지한 프로젝트는 접속해도 다시 시작하지 않음 - 자동 재시작 판단에 바로 쓰이므로 함께 지움
+    redisUtil.delete(AUTO_STOPPED_KEY.formatted(projectId));
+  }
+
+  /**
+   * 그룹 내 실행 중인 프로젝트를 모두 중지 - replica 변경은 프로젝트마다 outbox 이벤트로 남겨 커밋 이후 동시에 실행
+   */
+  @Transactional
+  public BulkScaleResult turnOffGroupProjects(Integer groupId) {
+    List<Project> projects = projectRepository.findRunningByGroupId(groupId);
+    projects.forEach(project -> project.setStatus(false));
+    projectRepository.saveAll(projects);
+
+    projects.forEach(project -> {
+      outboxDispatcher.publish(OutboxEventType.PROJECT_SCALED, project);
+      redisUtil.delete(AUTO_STOPPED_KEY.formatted(project.getId()));
+    });
+
+    return new BulkScaleResult(projects.size(), projects.stream().map(Project::getId).toList());
   }
 
   public List<GroupUserResponse> getProjectUserIds(Integer groupId, Integer projectId) {
     projectRepository.findByGroupIdAndProjectId(groupId, projectId)
         .orElseThrow(() -> new NotFoundException("Project not found"));
 
-    String pattern = "project:" + projectId + ":user:*";
-    Set<String> keys = redisUtil.keys(pattern);
-    List<GroupUserResponse> groupUserResponses = keys.stream()
-        .map(key -> {
-          String[] split = key.split(":");
-          Integer userId = Integer.parseInt(split[3]);
-          GroupUser groupUser = groupUserRepository.findByGroupIdAndUserId(groupId, userId)
-              .orElseThrow(() -> new NotFoundException("Group user not found"));
+    List<Integer> userIds = redisUtil.smembers(PROJECT_USERS_KEY.formatted(projectId)).stream()
+        .map(userId -> Integer.parseInt((String) userId))
+        .toList();
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<GroupUserResponse> groupUserResponses = groupUserRepository
+        .findAllWithUserByGroupIdAndUserIdIn(groupId, userIds).stream()
+        .map(groupUser -> {
           User user = groupUser.getUser();
           return GroupUserResponse.builder()
               .id(user.getId())
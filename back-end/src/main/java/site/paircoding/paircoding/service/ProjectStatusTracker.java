@@ -0,0 +1,323 @@
+package site.paircoding.paircoding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.dto.ProjectStatusDto;
+import site.paircoding.paircoding.entity.enums.LabelKey;
+import site.paircoding.paircoding.repository.ProjectRepository;
+
+/**
+ * 프로젝트 파드의 실제 실행 상태를 메모리에 유지
+ * <p>
+ * Deployment, Pod informer 로 변경분만 받아 프로젝트별 상태(희망/준비 replica, phase, 마지막 재시작 이유)를 계산하고, 상태가 바뀔 때마다
+ * {@code /sub/project-status/groups/{groupId}} 로 알립니다. 상태 조회는 DB 나 쿠버네티스 API 를 거치지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectStatusTracker {
+
+  private static final String PROJECT_STATUS_DESTINATION = "/sub/project-status/groups/%s";
+  private static final String POD_INDEX = "deploymentName";
+  private static final long RESYNC_MILLIS = 10 * 60 * 1000;
+
+  @Value("${kubernetes.namespace}")
+  private String namespace;
+
+  @Value("${kubernetes.env-label}")
+  private String ENV_LABEL;
+
+  // informer 초기 목록을 받는 데 이 시간보다 오래 걸리면 경고 - 이후 받는 변경분으로 계속 채워짐
+  @Value("${kubernetes.status-tracker.start-timeout-ms:60000}")
+  private long startTimeoutMillis;
+
+  private final KubernetesClient kubernetesClient;
+  private final ProjectRepository projectRepository;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+  private final ThreadPoolTaskExecutor kubernetesExecutor;
+
+  // 프로젝트 ID -> 상태
+  private final Map<Integer, TrackedStatus> statuses = new ConcurrentHashMap<>();
+  // Deployment 이름 -> 프로젝트 ID
+  private final Map<String, Integer> projectIds = new ConcurrentHashMap<>();
+
+  private SharedIndexInformer<Deployment> deploymentInformer;
+  private SharedIndexInformer<Pod> podInformer;
+
+  /**
+   * informer 를 시작하고 바로 반환 - 쿠버네티스 API 가 느리거나 응답하지 않아도 애플리케이션 시작을 막지 않음
+   * <p>
+   * 라벨을 붙인 예전 Deployment 는 informer 가 변경분으로 받으므로 라벨 작업도 백그라운드에서 수행합니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    CompletableFuture.runAsync(this::labelLegacyDeployments, kubernetesExecutor)
+        .exceptionally(e -> {
+          log.error("Failed to label legacy deployments", e);
+          return null;
+        });
+
+    podInformer = kubernetesClient.pods()
+        .inNamespace(namespace)
+        .withLabel(LabelKey.DEPLOYMENT_NAME.getKey())
+        .runnableInformer(RESYNC_MILLIS);
+    podInformer.addIndexers(Map.of(POD_INDEX, pod -> List.of(deploymentNameOf(pod))));
+    podInformer.addEventHandler(handler(this::deploymentNameOf));
+
+    deploymentInformer = kubernetesClient.apps().deployments()
+        .inNamespace(namespace)
+        .withLabel(LabelKey.ENV.getKey(), ENV_LABEL)
+        .withLabel(LabelKey.PROJECT_ID.getKey())
+        .runnableInformer(RESYNC_MILLIS);
+    deploymentInformer.addEventHandler(handler(deployment -> deployment.getMetadata().getName()));
+
+    // 두 informer 의 초기 목록을 모두 받은 뒤 상태를 계산해야 파드 정보가 빠지지 않음
+    CompletableFuture<Void> started = CompletableFuture.allOf(
+        podInformer.start().toCompletableFuture(),
+        deploymentInformer.start().toCompletableFuture());
+    started.whenComplete((result, e) -> {
+      if (e != null) {
+        log.error("Project status tracker failed to start", e);
+        return;
+      }
+      deploymentInformer.getStore().list()
+          .forEach(deployment -> refresh(deployment.getMetadata().getName()));
+      log.info("Project status tracker started: {} projects", statuses.size());
+    });
+    started.copy()
+        .orTimeout(startTimeoutMillis, TimeUnit.MILLISECONDS)
+        .whenComplete((result, e) -> {
+          if (e instanceof TimeoutException) {
+            log.warn("Project status tracker is still syncing after {}ms", startTimeoutMillis);
+          }
+        });
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (deploymentInformer != null) {
+      deploymentInformer.stop();
+    }
+    if (podInformer != null) {
+      podInformer.stop();
+    }
+  }
+
+  /**
+   * 메모리에 있는 프로젝트 상태 조회
+   *
+   * @return 아직 Deployment 가 없거나 다른 그룹의 프로젝트면 null
+   */
+  public ProjectStatusDto getStatus(Integer groupId, Integer projectId) {
+    TrackedStatus tracked = statuses.get(projectId);
+    if (tracked == null || !tracked.groupId().equals(String.valueOf(groupId))) {
+      return null;
+    }
+    return tracked.status();
+  }
+
+  /**
+   * @return Deployment 가 속한 프로젝트 ID, 추적 중이 아니면 null
+   */
+  public Integer getProjectId(String deploymentName) {
+    return projectIds.get(deploymentName);
+  }
+
+  /**
+   * @return 프로젝트가 속한 그룹 ID, 추적 중이 아니면 null
+   */
+  public String getGroupId(Integer projectId) {
+    TrackedStatus tracked = statuses.get(projectId);
+    return tracked != null ? tracked.groupId() : null;
+  }
+
+  private <T extends HasMetadata> ResourceEventHandler<T> handler(
+      Function<T, String> deploymentName) {
+    return new ResourceEventHandler<>() {
+      @Override
+      public void onAdd(T resource) {
+        refresh(deploymentName.apply(resource));
+      }
+
+      @Override
+      public void onUpdate(T oldResource, T newResource) {
+        refresh(deploymentName.apply(newResource));
+      }
+
+      @Override
+      public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+        refresh(deploymentName.apply(resource));
+      }
+    };
+  }
+
+  /**
+   * Deployment 와 그 파드들로 프로젝트 상태를 다시 계산하고, 바뀌었으면 알림
+   */
+  private synchronized void refresh(String deploymentName) {
+    if (deploymentName == null || deploymentInformer == null) {
+      return;
+    }
+
+    Deployment deployment = deploymentInformer.getStore().getByKey(namespace + "/" + deploymentName);
+    if (deployment == null) {
+      Integer projectId = projectIds.remove(deploymentName);
+      if (projectId != null) {
+        statuses.remove(projectId);
+      }
+      return;
+    }
+
+    Map<String, String> labels = deployment.getMetadata().getLabels();
+    Integer projectId = Integer.valueOf(labels.get(LabelKey.PROJECT_ID.getKey()));
+    String groupId = labels.get(LabelKey.GROUP_ID.getKey());
+    projectIds.put(deploymentName, projectId);
+
+    List<Pod> pods = podInformer.getIndexer().byIndex(POD_INDEX, deploymentName);
+    ProjectStatusDto status = calculate(deployment, pods);
+
+    TrackedStatus previous = statuses.put(projectId, new TrackedStatus(groupId, status));
+    if (previous != null && !previous.status().equals(status)) {
+      send(groupId, projectId, status);
+    }
+  }
+
+  private ProjectStatusDto calculate(Deployment deployment, List<Pod> pods) {
+    int desired = deployment.getSpec().getReplicas() != null
+        ? deployment.getSpec().getReplicas() : 1;
+    int ready = deployment.getStatus() != null && deployment.getStatus().getReadyReplicas() != null
+        ? deployment.getStatus().getReadyReplicas() : 0;
+
+    String phase = desired == 0 ? "Stopped" : "Pending";
+    int restartCount = 0;
+    String lastRestartReason = null;
+
+    // 종료 중인 파드는 제외하고 가장 최근 파드 기준
+    Pod pod = pods.stream()
+        .filter(p -> p.getMetadata().getDeletionTimestamp() == null)
+        .max((a, b) -> a.getMetadata().getCreationTimestamp()
+            .compareTo(b.getMetadata().getCreationTimestamp()))
+        .orElse(null);
+
+    if (pod != null && pod.getStatus() != null) {
+      phase = pod.getStatus().getPhase();
+      List<ContainerStatus> containerStatuses = pod.getStatus().getContainerStatuses();
+      if (containerStatuses != null) {
+        for (ContainerStatus containerStatus : containerStatuses) {
+          restartCount += containerStatus.getRestartCount() != null
+              ? containerStatus.getRestartCount() : 0;
+          // 대기 이유(CrashLoopBackOff, ImagePullBackOff 등)가 있으면 phase 보다 우선
+          if (containerStatus.getState() != null && containerStatus.getState().getWaiting() != null
+              && containerStatus.getState().getWaiting().getReason() != null) {
+            phase = containerStatus.getState().getWaiting().getReason();
+          }
+          if (containerStatus.getLastState() != null
+              && containerStatus.getLastState().getTerminated() != null) {
+            lastRestartReason = containerStatus.getLastState().getTerminated().getReason();
+          }
+        }
+      }
+    }
+
+    return ProjectStatusDto.builder()
+        .status(desired > 0)
+        .phase(phase != null ? phase : "Unknown")
+        .desiredReplicas(desired)
+        .readyReplicas(ready)
+        .restartCount(restartCount)
+        .lastRestartReason(lastRestartReason)
+        .build();
+  }
+
+  private void send(String groupId, Integer projectId, ProjectStatusDto status) {
+    Map<String, Object> message = new HashMap<>();
+    message.put("status", "runtime");
+    message.put("projectId", String.valueOf(projectId));
+    message.put("phase", status.getPhase());
+    message.put("desiredReplicas", status.getDesiredReplicas());
+    message.put("readyReplicas", status.getReadyReplicas());
+    message.put("restartCount", status.getRestartCount());
+    message.put("lastRestartReason", status.getLastRestartReason());
+
+    try {
+      messagingTemplate.convertAndSend(PROJECT_STATUS_DESTINATION.formatted(groupId),
+          objectMapper.writeValueAsString(message));
+    } catch (Exception e) {
+      log.error("Error converting project runtime status to JSON", e);
+    }
+  }
+
+  /**
+   * 프로젝트 라벨이 없는 기존 Deployment 에 라벨을 붙임 - 이전 버전에서 생성된 프로젝트용
+   */
+  private void labelLegacyDeployments() {
+    List<Deployment> deployments = kubernetesClient.apps().deployments()
+        .inNamespace(namespace)
+        .withLabel(LabelKey.ENV.getKey(), ENV_LABEL)
+        .withLabel(LabelKey.GROUP_ID.getKey())
+        .withoutLabel(LabelKey.PROJECT_ID.getKey())
+        .list()
+        .getItems();
+    if (deployments.isEmpty()) {
+      return;
+    }
+
+    Map<String, Project> projects = new HashMap<>();
+    projectRepository.findAllByContainerIdIn(
+            deployments.stream().map(deployment -> deployment.getMetadata().getName()).toList())
+        .forEach(project -> projects.put(project.getContainerId(), project));
+
+    for (Deployment deployment : deployments) {
+      Project project = projects.get(deployment.getMetadata().getName());
+      if (project == null) {
+        continue;
+      }
+      try {
+        kubernetesClient.apps().deployments()
+            .inNamespace(namespace)
+            .withName(project.getContainerId())
+            .edit(d -> new DeploymentBuilder(d)
+                .editMetadata()
+                .addToLabels(LabelKey.PROJECT_ID.getKey(), String.valueOf(project.getId()))
+                .endMetadata()
+                .build());
+      } catch (RuntimeException e) {
+        log.warn("Failed to label deployment: {}", project.getContainerId(), e);
+      }
+    }
+  }
+
+  private String deploymentNameOf(Pod pod) {
+    return pod.getMetadata().getLabels().get(LabelKey.DEPLOYMENT_NAME.getKey());
+  }
+
+  private record TrackedStatus(String groupId, ProjectStatusDto status) {
+
+  }
+}
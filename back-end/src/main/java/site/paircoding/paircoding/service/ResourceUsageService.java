@@ -0,0 +1,113 @@
+package site.paircoding.paircoding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.paircoding.paircoding.entity.Performance;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.dto.ProjectUsageResponse;
+import site.paircoding.paircoding.entity.dto.ResourceUsageSample;
+import site.paircoding.paircoding.global.exception.BadRequestException;
+import site.paircoding.paircoding.repository.ProjectRepository;
+import site.paircoding.paircoding.util.ResourceUsageSource;
+import site.paircoding.paircoding.util.UsageTimeSeries;
+
+/**
+ * 프로젝트별 리소스 사용량 수집
+ * <p>
+ * 주기마다 전체 작업 공간의 사용량을 한 번에 가져와 프로젝트별 링 버퍼에 쌓습니다. 보관 기간은
+ * {@code usage.sample-ms * usage.capacity} 이고, 오래된 샘플은 덮어씁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceUsageService {
+
+  private static final String PROJECT_USAGE_DESTINATION = "/sub/project-usage/groups/%s";
+
+  // 프로젝트당 보관하는 샘플 수 (기본 15초 * 240 = 1시간)
+  @Value("${usage.capacity:240}")
+  private int capacity;
+
+  // 수집할 때마다 그룹별 최신 사용량을 STOMP 로 전송
+  @Value("${usage.live-feed-enabled:false}")
+  private boolean liveFeedEnabled;
+
+  private final ResourceUsageSource resourceUsageSource;
+  private final ProjectStatusTracker projectStatusTracker;
+  private final ProjectRepository projectRepository;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+
+  // 프로젝트 ID -> 사용량 시계열
+  private final Map<Integer, UsageTimeSeries> series = new ConcurrentHashMap<>();
+
+  @Scheduled(fixedDelayString = "${usage.sample-ms:15000}",
+      initialDelayString = "${usage.sample-ms:15000}")
+  public void sample() {
+    Map<String, ResourceUsageSample> usage;
+    try {
+      usage = resourceUsageSource.collect(System.currentTimeMillis());
+    } catch (RuntimeException e) {
+      log.warn("Failed to collect resource usage", e);
+      return;
+    }
+
+    // 그룹 ID -> (프로젝트 ID -> 최신 샘플)
+    Map<String, Map<String, ResourceUsageSample>> latestByGroup = new HashMap<>();
+    usage.forEach((deploymentName, sample) -> {
+      Integer projectId = projectStatusTracker.getProjectId(deploymentName);
+      if (projectId == null) {
+        return; // 웜 풀 작업 공간이거나 아직 추적되지 않은 프로젝트
+      }
+      String groupId = projectStatusTracker.getGroupId(projectId);
+      if (groupId == null) {
+        return; // 조회 사이에 삭제된 프로젝트
+      }
+      series.computeIfAbsent(projectId, id -> new UsageTimeSeries(capacity)).add(sample);
+      latestByGroup.computeIfAbsent(groupId, id -> new HashMap<>())
+          .put(String.valueOf(projectId), sample);
+    });
+
+    // 삭제된 프로젝트의 시계열 정리
+    series.keySet().removeIf(projectId -> projectStatusTracker.getGroupId(projectId) == null);
+
+    if (liveFeedEnabled) {
+      latestByGroup.forEach(this::send);
+    }
+  }
+
+  /**
+   * 프로젝트 사용량 조회
+   *
+   * @param points 최대 샘플 수 - 보관 중인 샘플이 더 많으면 평균내어 줄임
+   */
+  @Transactional(readOnly = true)
+  public ProjectUsageResponse getUsage(Integer groupId, Integer projectId, int points) {
+    Project project = projectRepository.findByGroupIdAndProjectId(groupId, projectId)
+        .orElseThrow(() -> new BadRequestException("Project not found"));
+    Performance performance = project.getPerformance();
+
+    UsageTimeSeries timeSeries = series.get(projectId);
+    return new ProjectUsageResponse(projectId, performance.getCpu(), performance.getMemory(),
+        performance.getStorage(), timeSeries != null ? timeSeries.snapshot(points) : List.of());
+  }
+
+  private void send(String groupId, Map<String, ResourceUsageSample> latest) {
+    try {
+      messagingTemplate.convertAndSend(PROJECT_USAGE_DESTINATION.formatted(groupId),
+          objectMapper.writeValueAsString(latest));
+    } catch (Exception e) {
+      log.error("Error converting resource usage to JSON", e);
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package site.paircoding.paircoding.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.global.exception.WebsocketException;
+import site.paircoding.paircoding.util.KubernetesUtil;
+
+/**
+ * 파일 저장 요청 병합 (write-behind)
+ * <p>
+ * 자동 저장으로 연달아 들어오는 저장 요청은 파일별 최신 내용만 메모리에 보관하고, 저장이 잠잠해지거나 최대 지연 시간이 지나면 한 번만 파드에
+ * 기록합니다. 기록 전까지의 읽기는 보관 중인 내용으로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SaveCoalescingService {
+
+  // 마지막 저장 이후 이 시간 동안 저장이 없으면 기록
+  @Value("${directory.save.quiet-ms:1500}")
+  private long quietMillis;
+
+  // 저장이 계속되더라도 첫 저장 이후 이 시간이 지나면 기록
+  @Value("${directory.save.max-delay-ms:5000}")
+  private long maxDelayMillis;
+
+  // 기록이 연속으로 이 횟수만큼 실패하면 자동 재시도를 멈춤 (파드가 사라진 경우 등)
+  // 보관 내용은 버리지 않으므로 읽기는 계속 이 내용으로 응답하고, 새 저장이나 명시적인 기록 때 다시 시도
+  @Value("${directory.save.max-retries:5}")
+  private int maxRetries;
+
+  private final Map<String, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+  private final KubernetesUtil kubernetesUtil;
+
+  /**
+   * 저장 요청을 보관 - 기록은 나중에 한 번에 수행
+   */
+  public void save(Integer projectId, String deploymentName, String filePath, String content,
+      String sessionId) {
+    pendingSaves.compute(key(projectId, filePath), (key, pending) -> {
+      if (pending == null) {
+        pending = new PendingSave(deploymentName, filePath);
+      }
+      pending.update(content, sessionId);
+      return pending;
+    });
+  }
+
+  /**
+   * 아직 파드에 기록되지 않은 최신 내용 조회
+   *
+   * @return 보관 중인 내용이 없으면 null
+   */
+  public String getPendingContent(Integer projectId, String filePath) {
+    PendingSave pending = pendingSaves.get(key(projectId, filePath));
+    return pending != null ? pending.content : null;
+  }
+
+  /**
+   * 보관 중인 내용을 기록하지 않고 가져감 - 공동 편집 문서가 이어서 관리할 때 사용
+   *
+   * @return 보관 중인 내용이 없으면 null
+   */
+  public String takePending(Integer projectId, String filePath) {
+    String key = key(projectId, filePath);
+    PendingSave pending = pendingSaves.get(key);
+    if (pending == null) {
+      return null;
+    }
+
+    // 진행 중인 기록이 끝난 뒤 가져가야 이후 기록과 순서가 뒤바뀌지 않음
+    pending.flushLock.lock();
+    try {
+      return pendingSaves.remove(key, pending) ? pending.content : null;
+    } finally {
+      pending.flushLock.unlock();
+    }
+  }
+
+  /**
+   * 경로(또는 그 하위)에 보관 중인 내용을 즉시 기록 - 이름 변경 전에 호출
+   * <p>
+   * 기록하지 못한 내용이 남은 채로 이름을 바꾸면 이후 재시도가 예전 경로에 파일을 다시 만들므로, 하나라도 실패하면 예외를 던집니다.
+   *
+   * @throws WebsocketException 기록에 실패한 경우
+   */
+  public void flush(Integer projectId, String filePath) {
+    String key = key(projectId, filePath);
+    pendingSaves.forEach((pendingKey, pending) -> {
+      if ((pendingKey.equals(key) || pendingKey.startsWith(key + "/"))
+          && !flush(pendingKey, pending)) {
+        throw new WebsocketException("Failed to save file: " + pending.filePath);
+      }
+    });
+  }
+
+  /**
+   * 경로(또는 그 하위)에 보관 중인 내용을 버림 - 삭제 전에 호출
+   */
+  public void discard(Integer projectId, String filePath) {
+    String key = key(projectId, filePath);
+    pendingSaves.forEach((pendingKey, pending) -> {
+      if (pendingKey.equals(key) || pendingKey.startsWith(key + "/")) {
+        pending.flushLock.lock();
+        try {
+          pendingSaves.remove(pendingKey, pending);
+        } finally {
+          pending.flushLock.unlock();
+        }
+      }
+    });
+  }
+
+  /**
+   * 웹소켓 연결이 끊긴 세션이 마지막으로 저장한 내용을 즉시 기록
+   */
+  public void flushSession(String sessionId) {
+    pendingSaves.forEach((key, pending) -> {
+      if (sessionId.equals(pending.lastSessionId)) {
+        flush(key, pending);
+      }
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${directory.save.flush-tick-ms:500}")
+  public void flushDue() {
+    long now = System.currentTimeMillis();
+    pendingSaves.forEach((key, pending) -> {
+      if (pending.failures >= maxRetries) {
+        return; // 재시도를 멈춘 내용
+      }
+      if (now - pending.lastSavedAt >= quietMillis
+          || now - pending.firstSavedAt >= maxDelayMillis) {
+        flush(key, pending);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void flushAll() {
+    pendingSaves.forEach(this::flush);
+  }
+
+  /**
+   * @return 기록했거나 이미 다른 스레드가 처리했으면 true, 기록에 실패했으면 false
+   */
+  private boolean flush(String key, PendingSave pending) {
+    pending.flushLock.lock();
+    try {
+      // 대기 중 다른 스레드가 먼저 기록했거나 버린 경우
+      if (pendingSaves.get(key) != pending) {
+        return true;
+      }
+
+      String content;
+      long version;
+      synchronized (pending) {
+        content = pending.content;
+        version = pending.version;
+      }
+
+      try {
+        kubernetesUtil.writeFile(pending.deploymentName, pending.filePath, content);
+      } catch (RuntimeException e) {
+        int failures;
+        synchronized (pending) {
+          failures = ++pending.failures;
+          // 잠잠해지는 시간만큼 기다린 뒤 재시도
+          pending.lastSavedAt = System.currentTimeMillis();
+          pending.firstSavedAt = pending.lastSavedAt;
+        }
+        if (failures < maxRetries) {
+          log.warn("Failed to flush pending save: path={}, attempt={}", pending.filePath,
+              failures, e);
+        } else {
+          log.error("Pausing retries of pending save after {} failed attempts: path={}",
+              failures, pending.filePath, e);
+        }
+        return false;
+      }
+
+      // 기록하는 동안 새 저장이 들어오지 않았을 때만 제거
+      pendingSaves.computeIfPresent(key, (k, current) -> {
+        synchronized (current) {
+          if (current != pending) {
+            return current;
+          }
+          if (current.version != version) {
+            // 이어지는 저장은 최대 지연 시간을 새로 적용
+            current.firstSavedAt = System.currentTimeMillis();
+            current.failures = 0;
+            return current;
+          }
+          return null;
+        }
+      });
+      return true;
+    } finally {
+      pending.flushLock.unlock();
+    }
+  }
+
+  private String key(Integer projectId, String filePath) {
+    return projectId + ":" + filePath;
+  }
+
+  private static class PendingSave {
+
+    private final String deploymentName;
+    private final String filePath;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile String content;
+    private volatile String lastSessionId;
+    private long version;
+    private volatile int failures;
+    private volatile long firstSavedAt;
+    private volatile long lastSavedAt;
+
+    PendingSave(String deploymentName, String filePath) {
+      this.deploymentName = deploymentName;
+      this.filePath = filePath;
+    }
+
+    synchronized void update(String content, String sessionId) {
+      long now = System.currentTimeMillis();
+      if (version == 0) {
+        firstSavedAt = now;
+      }
+      this.content = content;
+      this.lastSessionId = sessionId;
+      this.lastSavedAt = now;
+      this.version++;
+      this.failures = 0;
+    }
+  }
+}
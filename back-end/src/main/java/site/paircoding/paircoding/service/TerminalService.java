@@ -1,6 +1,5 @@
 package site.paircoding.paircoding.service;
 
-import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
@@ -8,7 +7,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +14,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import site.paircoding.paircoding.entity.Project;
-import site.paircoding.paircoding.entity.enums.LabelKey;
+import site.paircoding.paircoding.util.KubernetesGateway;
+import site.paircoding.paircoding.util.KubernetesUtil;
 
 @Service
 @RequiredArgsConstructor
@@ -27,30 +26,27 @@ public class TerminalService {
 
   private final Map<String, TerminalBridge> bridges = new ConcurrentHashMap<>();
   private final KubernetesClient kubernetesClient;
+  private final KubernetesUtil kubernetesUtil;
+  private final KubernetesGateway kubernetesGateway;
   private final SimpMessagingTemplate messagingTemplate;
   private final ProjectService projectService;
+  private final WorkspaceIdleService workspaceIdleService;
+  // 터미널 ID -> 프로젝트 ID (입력을 활동으로 기록)
+  private final Map<String, Integer> terminalProjects = new ConcurrentHashMap<>();
 
   public void connectToPod(Integer groupId, Integer projectId, String terminalId,
       String destination)
       throws Exception {
 
     Project project = projectService.getProject(groupId, projectId);
+    // 자동 중지된 작업 공간이면 다시 시작하고 준비될 때까지 대기
+    workspaceIdleService.awaken(project);
     String deploymentName = project.getContainerId();
 
-    // Deployment에서 Pod 목록 가져오기
-    List<Pod> pods = kubernetesClient.pods()
-        .inNamespace(namespace)
-        .withLabel(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-        .list()
-        .getItems();
-
-    if (pods.isEmpty()) {
-      throw new RuntimeException("해당 Deployment에서 실행 중인 Pod가 없습니다.");
-    }
+    String podName = kubernetesUtil.getPodName(deploymentName);
 
-    String podName = pods.get(0).getMetadata().getName(); // 첫 번째 Pod 선택
-
-    ExecWatch execWatch = kubernetesClient.pods()
+    // 세션 수 제한은 연결을 여는 동안에만 적용 - 열린 터미널은 계속 유지됨
+    ExecWatch execWatch = kubernetesGateway.exec(() -> kubernetesClient.pods()
         .inNamespace(namespace)
         .withName(podName)
         .redirectingInput()
@@ -69,19 +65,22 @@ public class TerminalService {
                 "Connection failed: " + t.getMessage());
             System.out.println("Connection failure");
             bridges.remove(terminalId);
+            terminalProjects.remove(terminalId);
           }
 
           @Override
           public void onClose(int code, String reason) {
             System.out.println("Connection closed");
             bridges.remove(terminalId);
+            terminalProjects.remove(terminalId);
           }
         })
         .exec("sh", "-c",
-            "cd /app && TERM=xterm-256color; export TERM; [ -x /bin/bash ] && /bin/bash || /bin/sh");
+            "cd /app && TERM=xterm-256color; export TERM; [ -x /bin/bash ] && /bin/bash || /bin/sh"));
 
     TerminalBridge bridge = new TerminalBridge(execWatch, terminalId, destination);
     bridges.put(terminalId, bridge);
+    terminalProjects.put(terminalId, projectId);
     bridge.start();
   }
 
@@ -89,6 +88,10 @@ public class TerminalService {
     TerminalBridge bridge = bridges.get(terminalId);
     if (bridge != null) {
       bridge.sendInput(input);
+      Integer projectId = terminalProjects.get(terminalId);
+      if (projectId != null) {
+        workspaceIdleService.touch(projectId);
+      }
     }
   }
 
@@ -0,0 +1,199 @@
+package site.paircoding.paircoding.service;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.entity.Performance;
+import site.paircoding.paircoding.entity.ProjectImage;
+import site.paircoding.paircoding.entity.enums.LabelKey;
+import site.paircoding.paircoding.repository.PerformanceRepository;
+import site.paircoding.paircoding.repository.ProjectImageRepository;
+import site.paircoding.paircoding.util.DeploymentNameGenerator;
+import site.paircoding.paircoding.util.KubernetesUtil;
+
+/**
+ * 미리 만들어 둔 작업 공간(웜 풀) 관리
+ * <p>
+ * 자주 쓰는 (이미지 태그, 사양) 조합마다 PV, PVC, Deployment 를 목표 개수만큼 미리 띄워 둡니다. 프로젝트 생성 시 풀에 남은 작업 공간이 있으면
+ * 라벨만 바꿔 가져가므로 이미지 풀링과 컨테이너 시작을 기다리지 않습니다.
+ * <p>
+ * 목표 개수는 {@code warm-pool.targets} 에 {@code 이미지태그:사양ID=개수} 를 쉼표로 구분해 지정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarmPoolService {
+
+  private static final String WARM_WORKSPACE_PREFIX = "ws-";
+
+  @Value("${warm-pool.targets:}")
+  private String targetsConfig;
+
+  // 한 번의 보충에서 새로 만드는 최대 작업 공간 수
+  @Value("${warm-pool.max-create-per-refill:5}")
+  private int maxCreatePerRefill;
+
+  private final KubernetesUtil kubernetesUtil;
+  private final ProjectImageRepository projectImageRepository;
+  private final PerformanceRepository performanceRepository;
+  private final MeterRegistry meterRegistry;
+  private final DeploymentNameGenerator deploymentNameGenerator;
+
+  // 풀 키 -> 목표 개수
+  private final Map<String, Integer> targets = new LinkedHashMap<>();
+  // 풀 키 -> 마지막으로 확인한 남은 개수
+  private final Map<String, AtomicInteger> available = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  public void init() {
+    for (String entry : targetsConfig.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      String[] target = entry.trim().split("=");
+      String[] pool = target[0].split(":");
+      targets.put(poolKey(pool[0], Integer.parseInt(pool[1])), Integer.parseInt(target[1]));
+    }
+
+    targets.keySet().forEach(key -> {
+      AtomicInteger count = available.computeIfAbsent(key, k -> new AtomicInteger());
+      Gauge.builder("warm_pool.available", count, AtomicInteger::get)
+          .tag("pool", key)
+          .register(meterRegistry);
+    });
+    log.info("Warm pool targets: {}", targets);
+  }
+
+  /**
+   * 풀에서 작업 공간 하나를 그룹에 할당
+   * <p>
+   * 쿠버네티스 호출이 포함되므로 트랜잭션 밖에서 호출하고, 이후 프로젝트 저장이 실패하면 {@link #release(String)} 로 돌려줘야 합니다.
+   *
+   * @return 할당된 작업 공간의 Deployment 이름, 풀이 비어 있으면 null
+   */
+  public String claim(ProjectImage projectImage, Performance performance, int groupId) {
+    String key = poolKey(projectImage.getTag(), performance.getId());
+    if (!targets.containsKey(key)) {
+      record(key, false);
+      return null;
+    }
+
+    List<Deployment> workspaces = kubernetesUtil.getWarmWorkspaces(key);
+    // 컨테이너가 이미 떠 있는 작업 공간부터 사용
+    workspaces.sort(Comparator.comparing((Deployment deployment) -> !isReady(deployment)));
+
+    for (Deployment workspace : workspaces) {
+      String deploymentName = workspace.getMetadata().getName();
+      try {
+        if (!kubernetesUtil.claimWarmWorkspace(workspace, groupId)) {
+          continue; // 다른 요청이 먼저 가져감
+        }
+      } catch (RuntimeException e) {
+        log.warn("Failed to claim warm workspace: {}", deploymentName, e);
+        discard(deploymentName);
+        continue;
+      }
+
+      available.get(key).updateAndGet(count -> Math.max(0, count - 1));
+      record(key, true);
+      return deploymentName;
+    }
+
+    record(key, false);
+    return null;
+  }
+
+  /**
+   * 목표 개수보다 부족한 풀을 채우고, 설정에서 빠진 풀의 작업 공간을 정리
+   */
+  @Scheduled(fixedDelayString = "${warm-pool.refill-ms:30000}",
+      initialDelayString = "${warm-pool.refill-initial-delay-ms:10000}")
+  public void refill() {
+    try {
+      removeUnusedPools();
+
+      int budget = maxCreatePerRefill;
+      for (Map.Entry<String, Integer> target : targets.entrySet()) {
+        String key = target.getKey();
+        int count = kubernetesUtil.getWarmWorkspaces(key).size();
+        available.get(key).set(count);
+
+        int missing = Math.min(target.getValue() - count, budget);
+        if (missing <= 0) {
+          continue;
+        }
+
+        int separator = key.lastIndexOf('.');
+        ProjectImage projectImage = projectImageRepository.findById(key.substring(0, separator))
+            .orElse(null);
+        Performance performance = performanceRepository.findById(
+            Integer.parseInt(key.substring(separator + 1))).orElse(null);
+        if (projectImage == null || performance == null) {
+          log.warn("Warm pool target does not match any image/performance: {}", key);
+          continue;
+        }
+
+        for (int i = 0; i < missing; i++) {
+          String deploymentName = deploymentNameGenerator.reserve(WARM_WORKSPACE_PREFIX);
+          kubernetesUtil.createWarmWorkspace(key, deploymentName, projectImage, performance);
+          budget--;
+        }
+        available.get(key).addAndGet(missing);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to refill warm pool", e);
+    }
+  }
+
+  private void removeUnusedPools() {
+    for (Deployment workspace : kubernetesUtil.getAllWarmWorkspaces()) {
+      String key = workspace.getMetadata().getLabels().get(LabelKey.WARM_POOL.getKey());
+      if (!targets.containsKey(key)) {
+        discard(workspace.getMetadata().getName());
+      }
+    }
+  }
+
+  /**
+   * 할당받았지만 프로젝트에 쓰지 못한 작업 공간 삭제 - 이미 그룹 라벨이 붙어 풀로 되돌릴 수 없음
+   */
+  public void release(String deploymentName) {
+    discard(deploymentName);
+  }
+
+  private void discard(String deploymentName) {
+    try {
+      kubernetesUtil.deletePod(LabelKey.DEPLOYMENT_NAME, deploymentName);
+    } catch (RuntimeException e) {
+      log.warn("Failed to delete warm workspace: {}", deploymentName, e);
+    }
+  }
+
+  private void record(String key, boolean hit) {
+    meterRegistry.counter("warm_pool.claims", "pool", key, "result", hit ? "hit" : "miss")
+        .increment();
+  }
+
+  private boolean isReady(Deployment deployment) {
+    Integer readyReplicas = deployment.getStatus() != null
+        ? deployment.getStatus().getReadyReplicas() : null;
+    return readyReplicas != null && readyReplicas > 0;
+  }
+
+  // 라벨 값으로 쓰이므로 ':' 대신 '.' 으로 구분
+  private String poolKey(String tag, Integer performanceId) {
+    return tag + "." + performanceId;
+  }
+}
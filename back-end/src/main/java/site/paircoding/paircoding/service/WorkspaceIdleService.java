@@ -0,0 +1,232 @@
+package site.paircoding.paircoding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.paircoding.paircoding.entity.Project;
+import site.paircoding.paircoding.entity.dto.WorkspaceReadiness;
+import site.paircoding.paircoding.global.exception.WebsocketException;
+import site.paircoding.paircoding.repository.ProjectRepository;
+import site.paircoding.paircoding.util.KubernetesUtil;
+import site.paircoding.paircoding.util.RedisUtil;
+import site.paircoding.paircoding.util.SingleFlight;
+
+/**
+ * 사용하지 않는 작업 공간 자동 중지 및 접속 시 재시작
+ * <p>
+ * 디렉토리 작업, 터미널 입력, 프로젝트 접속을 활동으로 기록하고, autoStop 이 켜진 프로젝트가 설정한 시간 동안 활동도 접속자도 없으면 replica 를
+ * 0 으로 줄입니다. 자동으로 중지된 프로젝트에 다시 요청이 오면 replica 를 되돌리고 파드가 준비될 때까지 요청을 잡아 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkspaceIdleService {
+
+  private static final String LAST_ACTIVITY_KEY = "lastActivityProjectId:%d"; // Redis 저장 키 형식
+  private static final String AUTO_STOPPED_KEY = "autoStoppedProjectId:%d"; // Redis 저장 키 형식
+  private static final String PROJECT_USERS_KEY = "project:%d:users"; // 프로젝트 접속 유저 ID 집합
+  private static final String IDLE_CHECK_LOCK_KEY = "workspaceIdleCheckLock";
+  private static final String PROJECT_STATUS_DESTINATION = "/sub/project-status/groups/%d";
+  // AUTO_STOPPED_KEY 값 - replica 를 줄이는 중이면 STOPPING, 끝났으면 STOPPED
+  private static final String STOPPING = "stopping";
+  private static final String STOPPED = "true";
+  private static final long STOPPING_POLL_MILLIS = 200;
+
+  // 마지막 활동 이후 이 시간이 지나면 자동 중지
+  @Value("${workspace.idle.timeout-ms:1800000}")
+  private long idleTimeoutMillis;
+
+  @Value("${workspace.idle.check-ms:60000}")
+  private long checkMillis;
+
+  // 같은 프로젝트의 활동은 이 간격으로만 Redis 에 기록
+  @Value("${workspace.idle.activity-write-ms:30000}")
+  private long activityWriteMillis;
+
+  // 재시작 후 파드가 준비될 때까지 기다리는 최대 시간
+  @Value("${workspace.idle.wake-timeout-ms:90000}")
+  private long wakeTimeoutMillis;
+
+  private final ProjectRepository projectRepository;
+  private final KubernetesUtil kubernetesUtil;
+  private final RedisUtil redisUtil;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+
+  // 프로젝트 ID -> 이 서버에서 마지막으로 Redis 에 기록한 시각
+  private final Map<Integer, Long> lastWrittenAt = new ConcurrentHashMap<>();
+  private final SingleFlight<Integer, Boolean> wakeFlight = new SingleFlight<>();
+
+  /**
+   * 프로젝트 활동 기록
+   */
+  public void touch(Integer projectId) {
+    long now = System.currentTimeMillis();
+    Long writtenAt = lastWrittenAt.get(projectId);
+    if (writtenAt != null && now - writtenAt < activityWriteMillis) {
+      return;
+    }
+    lastWrittenAt.put(projectId, now);
+    redisUtil.set(LAST_ACTIVITY_KEY.formatted(projectId), String.valueOf(now));
+  }
+
+  /**
+   * 활동을 기록하고, 자동 중지된 프로젝트라면 다시 시작한 뒤 파드가 준비될 때까지 대기
+   * <p>
+   * 같은 프로젝트에 동시에 들어온 요청은 한 번의 재시작을 함께 기다립니다. 조회해 둔 프로젝트 상태는 중지 도중에 바뀌었을 수 있으므로
+   * Redis 의 자동 중지 표시로 판단하고, 중지가 진행 중이면 끝난 뒤 재시작합니다.
+   */
+  public void awaken(Project project) {
+    touch(project.getId());
+    String autoStoppedKey = AUTO_STOPPED_KEY.formatted(project.getId());
+    if (!redisUtil.hasKey(autoStoppedKey)) {
+      return;
+    }
+
+    wakeFlight.execute(project.getId(), () -> {
+      if (!awaitStopped(autoStoppedKey)) {
+        return true; // 다른 서버가 먼저 재시작했거나 중지가 취소됨
+      }
+      Project current = projectRepository.findById(project.getId()).orElse(null);
+      if (current == null) {
+        return true;
+      }
+
+      current.setStatus(true);
+      projectRepository.save(current);
+      kubernetesUtil.scaleDeployment(current.getContainerId(), 1);
+      sendStatus(current, "waking");
+
+      WorkspaceReadiness readiness = kubernetesUtil.waitForWorkspaceReady(
+          current.getContainerId(), Duration.ofMillis(wakeTimeoutMillis));
+      if (!readiness.isReady()) {
+        throw new WebsocketException("Workspace is not ready yet - try again shortly");
+      }
+
+      redisUtil.delete(AUTO_STOPPED_KEY.formatted(current.getId()));
+      sendStatus(current, "running");
+      log.info("Workspace woken up: projectId={}, elapsed={}ms", current.getId(),
+          readiness.elapsedMillis());
+      return true;
+    });
+    project.setStatus(true);
+  }
+
+  @Scheduled(fixedDelayString = "${workspace.idle.check-ms:60000}",
+      initialDelayString = "${workspace.idle.check-ms:60000}")
+  public void stopIdleWorkspaces() {
+    // 여러 서버 중 한 곳에서만 검사
+    if (!redisUtil.setIfAbsent(IDLE_CHECK_LOCK_KEY, "locked", checkMillis / 1000)) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    Map<String, Project> idleProjects = new HashMap<>();
+    for (Project project : projectRepository.findAutoStopCandidates()) {
+      if (!redisUtil.hasKey(LAST_ACTIVITY_KEY.formatted(project.getId()))) {
+        // 기록이 없으면 지금부터 계산 (서버 재시작, Redis 초기화 등)
+        redisUtil.set(LAST_ACTIVITY_KEY.formatted(project.getId()), String.valueOf(now));
+        continue;
+      }
+      if (isIdle(project, now)) {
+        idleProjects.put(project.getContainerId(), project);
+      }
+    }
+
+    if (!idleProjects.isEmpty()) {
+      stop(idleProjects);
+    }
+  }
+
+  /**
+   * 유휴 작업 공간을 한 번에 중지 - replica 변경은 동시에 요청하고, 실패한 프로젝트는 실행 상태로 되돌림
+   */
+  private void stop(Map<String, Project> projects) {
+    // 중지 중에 들어온 접속이 중지가 끝난 뒤 재시작하도록 표시부터 남김
+    projects.values().forEach(
+        project -> redisUtil.set(AUTO_STOPPED_KEY.formatted(project.getId()), STOPPING));
+
+    // 검사한 뒤 표시를 남기기 전까지 활동이 생긴 프로젝트는 제외
+    long now = System.currentTimeMillis();
+    projects.values().removeIf(project -> {
+      if (isIdle(project, now)) {
+        return false;
+      }
+      redisUtil.delete(AUTO_STOPPED_KEY.formatted(project.getId()));
+      return true;
+    });
+    if (projects.isEmpty()) {
+      return;
+    }
+
+    projects.values().forEach(project -> project.setStatus(false));
+    projectRepository.saveAll(projects.values());
+
+    Set<String> failed = new HashSet<>(kubernetesUtil.scaleDeployments(projects.keySet(), 0));
+    projects.forEach((deploymentName, project) -> {
+      if (failed.contains(deploymentName)) {
+        project.setStatus(true);
+        projectRepository.save(project);
+        redisUtil.delete(AUTO_STOPPED_KEY.formatted(project.getId()));
+        log.warn("Failed to stop idle workspace: projectId={}", project.getId());
+        return;
+      }
+      redisUtil.set(AUTO_STOPPED_KEY.formatted(project.getId()), STOPPED);
+
+      sendStatus(project, "stopped");
+      log.info("Idle workspace stopped: projectId={}", project.getId());
+    });
+  }
+
+  // 마지막 활동 이후 유휴 시간이 지났고 접속자도 없는지 확인
+  private boolean isIdle(Project project, long now) {
+    Object lastActivity = redisUtil.get(LAST_ACTIVITY_KEY.formatted(project.getId()));
+    return lastActivity != null
+        && now - Long.parseLong((String) lastActivity) >= idleTimeoutMillis
+        && redisUtil.scard(PROJECT_USERS_KEY.formatted(project.getId())) == 0;
+  }
+
+  /**
+   * 진행 중인 중지가 끝날 때까지 대기 - 중지한 서버가 도중에 죽은 경우를 대비해 wake-timeout 이 지나면 중지된 것으로 봄
+   *
+   * @return 자동 중지 상태이면 true, 중지가 취소되었거나 이미 재시작되었으면 false
+   */
+  private boolean awaitStopped(String autoStoppedKey) {
+    long deadline = System.currentTimeMillis() + wakeTimeoutMillis;
+    Object marker;
+    while (STOPPING.equals(marker = redisUtil.get(autoStoppedKey))
+        && System.currentTimeMillis() < deadline) {
+      try {
+        Thread.sleep(STOPPING_POLL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new WebsocketException("Interrupted while waiting for the workspace to stop");
+      }
+    }
+    return marker != null;
+  }
+
+  private void sendStatus(Project project, String status) {
+    Map<String, String> message = new HashMap<>();
+    message.put("status", status);
+    message.put("projectId", String.valueOf(project.getId()));
+
+    try {
+      messagingTemplate.convertAndSend(
+          PROJECT_STATUS_DESTINATION.formatted(project.getGroup().getId()),
+          objectMapper.writeValueAsString(message));
+    } catch (Exception e) {
+      log.error("Error converting workspace status message to JSON", e);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package site.paircoding.paircoding.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 최대 크기까지만 저장하는 출력 스트림 - 넘치는 출력은 버리고 잘렸다는 것만 기록
+ */
+public class BoundedOutputStream extends OutputStream {
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  private final int maxBytes;
+  private boolean truncated;
+
+  public BoundedOutputStream(int maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public synchronized void write(int b) {
+    if (buffer.size() >= maxBytes) {
+      truncated = true;
+      return;
+    }
+    buffer.write(b);
+  }
+
+  @Override
+  public synchronized void write(byte[] b, int off, int len) {
+    int writable = Math.min(len, maxBytes - buffer.size());
+    if (writable < len) {
+      truncated = true;
+    }
+    if (writable > 0) {
+      buffer.write(b, off, writable);
+    }
+  }
+
+  public synchronized boolean isTruncated() {
+    return truncated;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return buffer.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,37 @@
+package site.paircoding.paircoding.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠버네티스 리소스 이름(Deployment 이름) 생성
+ * <p>
+ * 정렬 가능한 짧은 ID 로 이름을 만들고 Redis SETNX 로 예약하므로 쿠버네티스 조회 없이 여러 서버 사이에서도 중복되지 않습니다. 예약은 DB 에
+ * 저장될 때까지만 유지하면 되고, 이후에는 project.container_id 의 unique 제약이 중복을 막습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeploymentNameGenerator {
+
+  private static final String RESERVATION_KEY = "deploymentName:%s"; // Redis 저장 키 형식
+  private static final long RESERVATION_EXPIRE_SECONDS = 60 * 60;
+  private static final int MAX_ATTEMPTS = 10;
+
+  private final RedisUtil redisUtil;
+
+  /**
+   * 이름을 생성하고 예약
+   *
+   * @param prefix 리소스 이름은 영문자로 시작해야 하므로 영문자로 시작하는 접두사 사용
+   */
+  public String reserve(String prefix) {
+    for (int i = 0; i < MAX_ATTEMPTS; i++) {
+      String deploymentName = prefix + RandomUtil.generateSortableId();
+      if (redisUtil.setIfAbsent(RESERVATION_KEY.formatted(deploymentName), "reserved",
+          RESERVATION_EXPIRE_SECONDS)) {
+        return deploymentName;
+      }
+    }
+    throw new RuntimeException("Deployment 이름 예약 실패");
+  }
+}
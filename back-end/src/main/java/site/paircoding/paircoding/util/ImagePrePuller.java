@@ -0,0 +1,149 @@
+package site.paircoding.paircoding.util;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
+import io.fabric8.kubernetes.api.model.apps.DaemonSetBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.entity.enums.LabelKey;
+
+/**
+ * 프로젝트 이미지 미리 받기
+ * <p>
+ * 이미지 태그마다 바로 종료되는 init 컨테이너를 둔 DaemonSet 을 관리합니다. 스케줄 가능한 모든 노드에 파드가 하나씩 뜨면서 init 컨테이너가 이미지를
+ * 받아 두므로, 이후 프로젝트 생성은 노드에 이미지가 있는지와 관계없이 바로 컨테이너를 시작합니다. 본 컨테이너는 pause 이미지로 대기만 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImagePrePuller {
+
+  public static final String DAEMON_SET_NAME = "project-image-prepull";
+  public static final String IMAGE_HASH_ANNOTATION = "paircoding.site/image-hash";
+
+  private static final String APP_LABEL = "app";
+  private static final String PAUSE_IMAGE = "registry.k8s.io/pause:3.9";
+  private static final int MAX_CONTAINER_NAME_LENGTH = 63;
+
+  @Value("${kubernetes.image-registry}")
+  private String imageRegistry;
+
+  @Value("${kubernetes.namespace}")
+  private String namespace;
+
+  @Value("${kubernetes.env-label}")
+  private String ENV_LABEL;
+
+  private final KubernetesClient kubernetesClient;
+
+  /**
+   * 이미지 목록에 맞게 DaemonSet 을 만들거나 갱신
+   * <p>
+   * 이미지 목록이 이전과 같으면(해시 어노테이션 비교) 아무것도 하지 않습니다. 목록이 바뀌면 파드 템플릿이 바뀌므로 노드마다 파드가 다시 떠서 새 이미지를
+   * 받습니다.
+   *
+   * @return DaemonSet 을 새로 만들거나 갱신했으면 true
+   */
+  public boolean apply(List<String> tags) {
+    List<String> sortedTags = tags.stream().distinct().sorted().toList();
+    String hash = hash(sortedTags);
+
+    DaemonSet current = kubernetesClient.apps().daemonSets()
+        .inNamespace(namespace)
+        .withName(DAEMON_SET_NAME)
+        .get();
+    if (current != null && current.getMetadata().getAnnotations() != null
+        && hash.equals(current.getMetadata().getAnnotations().get(IMAGE_HASH_ANNOTATION))) {
+      return false;
+    }
+
+    kubernetesClient.apps().daemonSets()
+        .inNamespace(namespace)
+        .resource(build(sortedTags, hash))
+        .createOr(NonDeletingOperation::update);
+    return true;
+  }
+
+  private DaemonSet build(List<String> tags, String hash) {
+    List<Container> pullers = new ArrayList<>();
+    for (int i = 0; i < tags.size(); i++) {
+      pullers.add(new ContainerBuilder()
+          .withName(containerName(i, tags.get(i)))
+          .withImage(imageRegistry + ":" + tags.get(i))
+          .withImagePullPolicy("IfNotPresent")
+          .withCommand("sh", "-c", "exit 0") // 이미지만 받고 바로 종료
+          .withNewResources()
+          .addToRequests("cpu", new Quantity("10m"))
+          .addToRequests("memory", new Quantity("16Mi"))
+          .endResources()
+          .build());
+    }
+
+    Map<String, String> labels = Map.of(
+        LabelKey.ENV.getKey(), ENV_LABEL,
+        APP_LABEL, DAEMON_SET_NAME);
+
+    return new DaemonSetBuilder()
+        .withNewMetadata()
+        .withName(DAEMON_SET_NAME)
+        .withNamespace(namespace)
+        .addToLabels(labels)
+        .addToAnnotations(IMAGE_HASH_ANNOTATION, hash)
+        .endMetadata()
+        .withNewSpec()
+        .withNewSelector()
+        .addToMatchLabels(APP_LABEL, DAEMON_SET_NAME)
+        .endSelector()
+        .withNewTemplate()
+        .withNewMetadata()
+        .addToLabels(labels)
+        .addToAnnotations(IMAGE_HASH_ANNOTATION, hash)
+        .endMetadata()
+        .withNewSpec()
+        .withInitContainers(pullers)
+        .addNewContainer()
+        .withName("pause")
+        .withImage(PAUSE_IMAGE)
+        .withNewResources()
+        .addToRequests("cpu", new Quantity("1m"))
+        .addToRequests("memory", new Quantity("8Mi"))
+        .addToLimits("memory", new Quantity("16Mi"))
+        .endResources()
+        .endContainer()
+        .endSpec()
+        .endTemplate()
+        .endSpec()
+        .build();
+  }
+
+  // 컨테이너 이름은 DNS 라벨 규칙을 따라야 하므로 태그를 정리하고, 겹치지 않도록 순번을 붙임
+  private String containerName(int index, String tag) {
+    String name = "pull-" + index + "-" + tag.toLowerCase().replaceAll("[^a-z0-9-]", "-");
+    if (name.length() > MAX_CONTAINER_NAME_LENGTH) {
+      name = name.substring(0, MAX_CONTAINER_NAME_LENGTH);
+    }
+    return name.replaceAll("-+$", "");
+  }
+
+  private String hash(List<String> tags) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] bytes = digest.digest(
+          (imageRegistry + "\n" + String.join("\n", tags)).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(bytes, 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
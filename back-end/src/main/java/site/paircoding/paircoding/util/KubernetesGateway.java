@@ -0,0 +1,154 @@
+package site.paircoding.paircoding.util;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.entity.enums.KubernetesVerb;
+import site.paircoding.paircoding.global.exception.TooManyRequestsException;
+
+/**
+ * 쿠버네티스 API 호출 관문
+ * <p>
+ * 호출 종류별 토큰 버킷으로 API 서버에 보내는 요청 속도를 제한하고, 같은 조회가 동시에 들어오면 한 번만 호출합니다. exec 는 동시에 열 수 있는 세션
+ * 수도 제한합니다. 한도를 넘은 요청은 API 서버 타임아웃을 기다리지 않고 바로 {@link TooManyRequestsException} 으로 거절됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KubernetesGateway {
+
+  @Value("${kubernetes.gateway.read-per-second:50}")
+  private double readPerSecond;
+
+  @Value("${kubernetes.gateway.write-per-second:20}")
+  private double writePerSecond;
+
+  @Value("${kubernetes.gateway.delete-per-second:10}")
+  private double deletePerSecond;
+
+  @Value("${kubernetes.gateway.exec-per-second:20}")
+  private double execPerSecond;
+
+  // 순간적으로 허용하는 요청 수 = 초당 요청 수 * burst-factor
+  @Value("${kubernetes.gateway.burst-factor:2}")
+  private int burstFactor;
+
+  // 토큰이 없을 때 기다리는 최대 시간 - 넘으면 거절
+  @Value("${kubernetes.gateway.max-wait-ms:500}")
+  private long maxWaitMillis;
+
+  // 동시에 실행 중인 exec 세션 최대 수
+  @Value("${kubernetes.gateway.max-concurrent-exec:32}")
+  private int maxConcurrentExec;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<KubernetesVerb, TokenBucket> buckets = new EnumMap<>(KubernetesVerb.class);
+  private final SingleFlight<String, Object> readFlight = new SingleFlight<>();
+  private Semaphore execPermits;
+
+  @PostConstruct
+  public void init() {
+    buckets.put(KubernetesVerb.READ, bucket(readPerSecond));
+    buckets.put(KubernetesVerb.WRITE, bucket(writePerSecond));
+    buckets.put(KubernetesVerb.DELETE, bucket(deletePerSecond));
+    buckets.put(KubernetesVerb.EXEC, bucket(execPerSecond));
+    execPermits = new Semaphore(maxConcurrentExec);
+  }
+
+  /**
+   * 조회 - 같은 key 로 동시에 들어온 조회는 한 번만 호출하고 결과를 나눠 가짐
+   *
+   * @param key 조회 대상을 구분하는 값 (예: "deployment:p-xxxx")
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T read(String key, Supplier<T> request) {
+    return (T) readFlight.execute(key, () -> call(KubernetesVerb.READ, request));
+  }
+
+  /**
+   * 생성, 수정, 삭제 등 조회 외 호출
+   */
+  public <T> T call(KubernetesVerb verb, Supplier<T> request) {
+    acquire(verb);
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      return request.get();
+    } catch (KubernetesClientException e) {
+      outcome = "error";
+      if (e.getCode() == 429) { // API 서버가 요청을 제한함
+        outcome = "throttled";
+        throw new TooManyRequestsException("Kubernetes API is busy");
+      }
+      throw e;
+    } catch (RuntimeException e) {
+      outcome = "error";
+      throw e;
+    } finally {
+      sample.stop(meterRegistry.timer("kubernetes.api.calls",
+          "verb", verb.name(), "outcome", outcome));
+    }
+  }
+
+  public void run(KubernetesVerb verb, Runnable request) {
+    call(verb, () -> {
+      request.run();
+      return null;
+    });
+  }
+
+  /**
+   * exec - 동시에 실행 중인 세션 수를 제한하며 실행
+   */
+  public <T> T exec(Supplier<T> request) {
+    boolean acquired;
+    try {
+      acquired = execPermits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TooManyRequestsException("Interrupted while waiting for exec session");
+    }
+    if (!acquired) {
+      reject(KubernetesVerb.EXEC);
+    }
+
+    try {
+      return call(KubernetesVerb.EXEC, request);
+    } finally {
+      execPermits.release();
+    }
+  }
+
+  private void acquire(KubernetesVerb verb) {
+    try {
+      if (buckets.get(verb).tryAcquire(maxWaitMillis)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    reject(verb);
+  }
+
+  private void reject(KubernetesVerb verb) {
+    meterRegistry.counter("kubernetes.api.rejected", "verb", verb.name()).increment();
+    log.warn("Kubernetes API call rejected by client-side limit: verb={}", verb);
+    throw new TooManyRequestsException("Kubernetes API rate limit exceeded");
+  }
+
+  private TokenBucket bucket(double permitsPerSecond) {
+    return new TokenBucket(permitsPerSecond, (int) Math.max(1, permitsPerSecond * burstFactor));
+  }
+}
@@ -13,25 +13,35 @@ import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
-import io.fabric8.kubernetes.api.model.ServiceList;
-import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
-import java.io.ByteArrayOutputStream;
-import java.util.HashSet;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import site.paircoding.paircoding.entity.Performance;
 import site.paircoding.paircoding.entity.ProjectImage;
+import site.paircoding.paircoding.entity.dto.ExecResult;
+import site.paircoding.paircoding.entity.dto.WorkspaceReadiness;
+import site.paircoding.paircoding.entity.enums.KubernetesVerb;
 import site.paircoding.paircoding.entity.enums.LabelKey;
 import site.paircoding.paircoding.global.exception.WebsocketException;
 
@@ -39,6 +49,9 @@ import site.paircoding.paircoding.global.exception.WebsocketException;
 @RequiredArgsConstructor
 public class KubernetesUtil {
 
+  // 예외 메시지에 남기는 명령의 최대 길이
+  private static final int LOGGED_COMMAND_LENGTH = 100;
+
   @Value("${kubernetes.image-registry}")
   private String imageRegistry;
 
@@ -48,234 +61,476 @@ public class KubernetesUtil {
   @Value("${kubernetes.env-label}")
   private String ENV_LABEL;
 
-  @Value("${kubernetes.nodeport.min}")
-  private int nodePortMin;
+  // exec 기본 제한 시간
+  @Value("${kubernetes.exec-timeout-ms:30000}")
+  private long execTimeoutMillis;
 
-  @Value("${kubernetes.nodeport.max}")
-  private int nodePortMax;
+  // exec 표준 출력, 표준 오류 각각의 최대 저장 크기
+  @Value("${kubernetes.exec-output-limit-bytes:4194304}")
+  private int execOutputLimitBytes;
 
   private final KubernetesClient kubernetesClient;
+  private final ThreadPoolTaskExecutor kubernetesExecutor;
+  private final ThreadPoolTaskExecutor scalingExecutor;
+  private final KubernetesGateway kubernetesGateway;
 
   /**
-   * 현재 사용 중인 NodePort 목록을 조회
+   * 파드 및 관련 리소스 생성 - 서로 의존하지 않는 리소스를 동시에 요청하고, 재시도 시 이미 생성된 리소스는 건너뜀
    */
-  private Set<Integer> getUsedNodePorts() {
-    Set<Integer> usedPorts = new HashSet<>();
+  public void createPod(int groupId, int projectId, String deploymentName,
+      ProjectImage projectImage, Performance performance, int nodePort) {
+    Map<String, String> labels = Map.of(
+        LabelKey.ENV.getKey(), ENV_LABEL,
+        LabelKey.GROUP_ID.getKey(), String.valueOf(groupId),
+        LabelKey.PROJECT_ID.getKey(), String.valueOf(projectId),
+        LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName);
 
     try {
-      // 모든 네임스페이스에서 서비스 조회
-      ServiceList serviceList = kubernetesClient.services().inAnyNamespace().list();
-
-      for (Service service : serviceList.getItems()) {
-        if (service.getSpec() != null && "NodePort".equals(service.getSpec().getType())) {
-          for (ServicePort port : service.getSpec().getPorts()) {
-            if (port.getNodePort() != null) {
-              usedPorts.add(port.getNodePort());
-            }
+      List<Runnable> tasks = new ArrayList<>(
+          workspaceTasks(labels, deploymentName, projectImage, performance));
+
+      // NodePort 방식의 서비스 생성
+      Service service = new ServiceBuilder()
+          .withNewMetadata()
+          .withName(deploymentName + "-service")
+          .withNamespace(namespace)
+          .addToLabels(labels)
+          .endMetadata()
+          .withNewSpec()
+          .withType("NodePort")
+          .addNewPort()
+          .withProtocol("TCP")
+          .withPort(projectImage.getPort()) // 서비스가 제공하는 포트
+          .withTargetPort(new IntOrString(projectImage.getPort())) // 컨테이너 내부 포트
+          .withNodePort(nodePort) // NodePort 지정 (30000~32767 범위에서 지정 가능)
+          .endPort()
+          .addToSelector(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName) // 파드와 서비스 매칭
+          .endSpec()
+          .build();
+
+      // 서비스 생성 - 다른 서비스가 이미 쓰는 NodePort 이면 새 포트로 다시 시도하도록 구분
+      tasks.add(() -> {
+        try {
+          createIfAbsent(() -> kubernetesClient.services().inNamespace(namespace).create(service));
+        } catch (KubernetesClientException e) {
+          if (e.getCode() == 422 && String.valueOf(e.getMessage()).contains("already allocated")) {
+            throw new NodePortConflictException(nodePort);
           }
+          throw e;
         }
-      }
+      });
+
+      runAll(tasks);
+
+      // 이미 있던 Deployment (웜 풀, 재시도) 에도 프로젝트 라벨이 붙도록 보정
+      kubernetesGateway.run(KubernetesVerb.WRITE, () -> kubernetesClient.apps().deployments()
+          .inNamespace(namespace)
+          .withName(deploymentName)
+          .edit(deployment -> new DeploymentBuilder(deployment)
+              .editMetadata()
+              .addToLabels(labels)
+              .endMetadata()
+              .build()));
     } catch (KubernetesClientException e) {
       e.printStackTrace();
+      throw new RuntimeException("파드 생성 오류");
     }
-
-    return usedPorts;
   }
 
   /**
-   * 사용 가능한 NodePort 반환
+   * 웜 풀용 작업 공간 생성 - 그룹과 서비스 없이 PV, PVC, Deployment 만 미리 생성
    */
-  public int getAvailableNodePort() {
-    for (int nodePort = nodePortMin; nodePort < nodePortMax; nodePort++) {
-      if (!getUsedNodePorts().contains(nodePort)) {
-        return nodePort; // 사용되지 않은 포트 반환
-      }
+  public void createWarmWorkspace(String poolKey, String deploymentName,
+      ProjectImage projectImage, Performance performance) {
+    Map<String, String> labels = Map.of(
+        LabelKey.ENV.getKey(), ENV_LABEL,
+        LabelKey.WARM_POOL.getKey(), poolKey,
+        LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName);
+
+    try {
+      runAll(workspaceTasks(labels, deploymentName, projectImage, performance));
+    } catch (KubernetesClientException e) {
+      e.printStackTrace();
+      throw new RuntimeException("웜 풀 작업 공간 생성 오류");
     }
+  }
 
-    throw new RuntimeException("지정 범위 내 NodePort 전부 사용중");
+  // 호출한 쪽에서 목록과 객체를 수정하므로 조회를 합치지 않음
+  public List<Deployment> getWarmWorkspaces(String poolKey) {
+    return kubernetesGateway.call(KubernetesVerb.READ, () -> kubernetesClient.apps().deployments()
+        .inNamespace(namespace)
+        .withLabel(LabelKey.WARM_POOL.getKey(), poolKey)
+        .list()
+        .getItems());
   }
 
-  public boolean isExists(String deploymentName) {
-    return kubernetesClient.apps().deployments()
+  /**
+   * 웜 풀 작업 공간 전체 조회 (풀 구분 없이)
+   */
+  public List<Deployment> getAllWarmWorkspaces() {
+    return kubernetesGateway.call(KubernetesVerb.READ, () -> kubernetesClient.apps().deployments()
         .inNamespace(namespace)
-        .withName(deploymentName)
-        .get() != null;
+        .withLabel(LabelKey.WARM_POOL.getKey())
+        .list()
+        .getItems());
   }
 
-  public void createPod(int groupId, String deploymentName, ProjectImage projectImage,
-      Performance performance, int nodePort) {
-    try {
-      // PersistentVolume (PV) 생성
-      PersistentVolume pv = new PersistentVolumeBuilder()
-          .withNewMetadata()
-          .withName(deploymentName + "-pv")
-          .addToLabels(LabelKey.ENV.getKey(), ENV_LABEL)
-          .addToLabels(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId))
-          .addToLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-          .endMetadata()
-          .withNewSpec()
-          .withCapacity(Map.of("storage", new Quantity(performance.getStorage())))
-          .withAccessModes("ReadWriteOnce") // 단일 노드에서 읽기/쓰기 가능
-          .withPersistentVolumeReclaimPolicy("Delete") // 삭제 시 데이터 유지
-          .withStorageClassName(deploymentName) // StorageClass 지정
-          .withNewHostPath()
-          .withPath("/mnt/data/" + deploymentName) // 노드의 실제 저장 경로
-          .withType("DirectoryOrCreate")
-          .endHostPath()
-          .endSpec()
-          .build();
+  /**
+   * 웜 풀 작업 공간을 그룹에 할당 - 풀 라벨을 그룹 라벨로 교체
+   * <p>
+   * Deployment 는 조회 시점의 resourceVersion 으로 갱신하므로 동시에 같은 작업 공간을 가져가려는 요청 중 하나만 성공합니다.
+   *
+   * @return 다른 요청이 먼저 가져간 경우 false
+   */
+  public boolean claimWarmWorkspace(Deployment deployment, int groupId) {
+    String deploymentName = deployment.getMetadata().getName();
+    deployment.getMetadata().getLabels().remove(LabelKey.WARM_POOL.getKey());
+    deployment.getMetadata().getLabels()
+        .put(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId));
 
-      // PV 생성
-      kubernetesClient.persistentVolumes().create(pv);
+    try {
+      kubernetesGateway.run(KubernetesVerb.WRITE, () -> kubernetesClient.apps().deployments()
+          .inNamespace(namespace)
+          .resource(deployment)
+          .update());
+    } catch (KubernetesClientException e) {
+      if (e.getCode() == 409) {
+        return false;
+      }
+      throw e;
+    }
 
-      // PersistentVolumeClaim (PVC) 생성
-      PersistentVolumeClaim pvc = new PersistentVolumeClaimBuilder()
-          .withNewMetadata()
-          .withName(deploymentName + "-pvc")
-          .withNamespace(namespace)
-          .addToLabels(LabelKey.ENV.getKey(), ENV_LABEL)
-          .addToLabels(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId))
-          .addToLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-          .endMetadata()
-          .withNewSpec()
-          .withAccessModes("ReadWriteOnce") // 단일 노드에서 읽기/쓰기 가능
-          .withStorageClassName(deploymentName) // PV와 동일한 StorageClass
-          .withNewResources()
-          .addToRequests("storage", new Quantity(performance.getStorage())) // PVC 크기 설정
-          .endResources()
-          .endSpec()
-          .build();
+    kubernetesGateway.run(KubernetesVerb.WRITE, () -> kubernetesClient.persistentVolumeClaims()
+        .inNamespace(namespace)
+        .withName(deploymentName + "-pvc")
+        .edit(pvc -> new PersistentVolumeClaimBuilder(pvc)
+            .editMetadata()
+            .removeFromLabels(LabelKey.WARM_POOL.getKey())
+            .addToLabels(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId))
+            .endMetadata()
+            .build()));
+
+    kubernetesGateway.run(KubernetesVerb.WRITE, () -> kubernetesClient.persistentVolumes()
+        .withName(deploymentName + "-pv")
+        .edit(pv -> new PersistentVolumeBuilder(pv)
+            .editMetadata()
+            .removeFromLabels(LabelKey.WARM_POOL.getKey())
+            .addToLabels(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId))
+            .endMetadata()
+            .build()));
+    return true;
+  }
 
-      // PVC 생성
-      kubernetesClient.persistentVolumeClaims().inNamespace(namespace).create(pvc);
+  /**
+   * 작업 공간(PV, PVC, Deployment) 생성 요청 목록 - 쿠버네티스가 바인딩과 마운트를 알아서 맞추므로 순서와 무관하게 요청 가능
+   */
+  private List<Runnable> workspaceTasks(Map<String, String> labels, String deploymentName,
+      ProjectImage projectImage, Performance performance) {
+    // PersistentVolume (PV) 생성
+    PersistentVolume pv = new PersistentVolumeBuilder()
+        .withNewMetadata()
+        .withName(deploymentName + "-pv")
+        .addToLabels(labels)
+        .endMetadata()
+        .withNewSpec()
+        .withCapacity(Map.of("storage", new Quantity(performance.getStorage())))
+        .withAccessModes("ReadWriteOnce") // 단일 노드에서 읽기/쓰기 가능
+        .withPersistentVolumeReclaimPolicy("Delete") // 삭제 시 데이터 유지
+        .withStorageClassName(deploymentName) // StorageClass 지정
+        .withNewHostPath()
+        .withPath("/mnt/data/" + deploymentName) // 노드의 실제 저장 경로
+        .withType("DirectoryOrCreate")
+        .endHostPath()
+        .endSpec()
+        .build();
+
+    // PersistentVolumeClaim (PVC) 생성
+    PersistentVolumeClaim pvc = new PersistentVolumeClaimBuilder()
+        .withNewMetadata()
+        .withName(deploymentName + "-pvc")
+        .withNamespace(namespace)
+        .addToLabels(labels)
+        .endMetadata()
+        .withNewSpec()
+        .withAccessModes("ReadWriteOnce") // 단일 노드에서 읽기/쓰기 가능
+        .withStorageClassName(deploymentName) // PV와 동일한 StorageClass
+        .withNewResources()
+        .addToRequests("storage", new Quantity(performance.getStorage())) // PVC 크기 설정
+        .endResources()
+        .endSpec()
+        .build();
+
+    // 리소스 제한 설정
+    ResourceRequirements resources = new ResourceRequirementsBuilder()
+        .addToLimits("cpu", new Quantity(performance.getCpu()))
+        .addToLimits("memory", new Quantity(performance.getMemory()))
+        .build();
+
+    // 컨테이너 정의
+    Container container = new ContainerBuilder()
+        .withName(deploymentName)
+        .withImage(imageRegistry + ":" + projectImage.getTag())
+        .withResources(resources)
+        .addNewPort()
+        .withContainerPort(projectImage.getPort()) // 컨테이너 내부 포트
+        .endPort()
+        .addNewVolumeMount()
+        .withName(deploymentName + "-volume")
+        .withMountPath("/data") // 컨테이너 내 마운트 경로
+        .endVolumeMount()
+        .build();
+
+    // Deployment 정의
+    Deployment deployment = new DeploymentBuilder()
+        .withNewMetadata()
+        .withName(deploymentName)
+        .withNamespace(namespace)
+        .addToLabels(labels)
+        .endMetadata()
+        .withNewSpec()
+        .withNewSelector()
+        .addToMatchLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName) // Selector 설정
+        .endSelector()
+        .withNewTemplate()
+        .withNewMetadata()
+        .addToLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
+        .endMetadata()
+        .withNewSpec()
+        .withContainers(container)
+        .addNewVolume()
+        .withName(deploymentName + "-volume")
+        .withNewPersistentVolumeClaim()
+        .withClaimName(deploymentName + "-pvc") // PVC 연결
+        .endPersistentVolumeClaim()
+        .endVolume()
+        .endSpec()
+        .endTemplate()
+        .endSpec()
+        .build();
+
+    return List.of(
+        () -> createIfAbsent(() -> kubernetesClient.persistentVolumes().create(pv)),
+        () -> createIfAbsent(() -> kubernetesClient.persistentVolumeClaims()
+            .inNamespace(namespace)
+            .create(pvc)),
+        () -> createIfAbsent(() -> kubernetesClient.apps().deployments()
+            .inNamespace(namespace)
+            .create(deployment)));
+  }
 
-      // 리소스 제한 설정
-      ResourceRequirements resources = new ResourceRequirementsBuilder()
-          .addToLimits("cpu", new Quantity(performance.getCpu()))
-          .addToLimits("memory", new Quantity(performance.getMemory()))
-          .build();
+  /**
+   * 작업 공간이 실제로 사용 가능해질 때까지 대기 - PVC 바인딩과 Deployment Available 을 watch 로 동시에 확인
+   *
+   * @param timeout 두 조건을 합쳐 기다리는 최대 시간
+   */
+  public WorkspaceReadiness waitForWorkspaceReady(String deploymentName, Duration timeout) {
+    long startedAt = System.currentTimeMillis();
+    long deadline = startedAt + timeout.toMillis();
+
+    CompletableFuture<Boolean> volumeBound = CompletableFuture.supplyAsync(
+        () -> waitUntil(deadline, () -> kubernetesClient.persistentVolumeClaims()
+            .inNamespace(namespace)
+            .withName(deploymentName + "-pvc")
+            .waitUntilCondition(pvc -> pvc != null && pvc.getStatus() != null
+                    && "Bound".equals(pvc.getStatus().getPhase()),
+                remaining(deadline), TimeUnit.MILLISECONDS)),
+        kubernetesExecutor);
+
+    CompletableFuture<Boolean> deploymentAvailable = CompletableFuture.supplyAsync(
+        () -> waitUntil(deadline, () -> kubernetesClient.apps().deployments()
+            .inNamespace(namespace)
+            .withName(deploymentName)
+            .waitUntilCondition(this::isAvailable, remaining(deadline), TimeUnit.MILLISECONDS)),
+        kubernetesExecutor);
+
+    return new WorkspaceReadiness(deploymentName, volumeBound.join(), deploymentAvailable.join(),
+        System.currentTimeMillis() - startedAt);
+  }
 
-      // 컨테이너 정의
-      Container container = new ContainerBuilder()
-          .withName(deploymentName)
-          .withImage(imageRegistry + ":" + projectImage.getTag())
-          .withResources(resources)
-          .addNewPort()
-          .withContainerPort(projectImage.getPort()) // 컨테이너 내부 포트
-          .endPort()
-          .addNewVolumeMount()
-          .withName(deploymentName + "-volume")
-          .withMountPath("/data") // 컨테이너 내 마운트 경로
-          .endVolumeMount()
-          .build();
+  private boolean waitUntil(long deadline, Runnable wait) {
+    if (remaining(deadline) <= 0) {
+      return false;
+    }
+    try {
+      wait.run();
+      return true;
+    } catch (KubernetesClientException e) {
+      // 제한 시간 초과 또는 대기 중 오류
+      return false;
+    }
+  }
 
-      // Deployment 정의
-      Deployment deployment = new DeploymentBuilder()
-          .withNewMetadata()
-          .withName(deploymentName)
-          .withNamespace(namespace)
-          .addToLabels(LabelKey.ENV.getKey(), ENV_LABEL)
-          .addToLabels(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId))
-          .addToLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-          .endMetadata()
-          .withNewSpec()
-          .withNewSelector()
-          .addToMatchLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName) // Selector 설정
-          .endSelector()
-          .withNewTemplate()
-          .withNewMetadata()
-          .addToLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-          .endMetadata()
-          .withNewSpec()
-          .withContainers(container)
-          .addNewVolume()
-          .withName(deploymentName + "-volume")
-          .withNewPersistentVolumeClaim()
-          .withClaimName(deploymentName + "-pvc") // PVC 연결
-          .endPersistentVolumeClaim()
-          .endVolume()
-          .endSpec()
-          .endTemplate()
-          .endSpec()
-          .build();
+  private long remaining(long deadline) {
+    return Math.max(0, deadline - System.currentTimeMillis());
+  }
 
-      // Deployment 생성
-      kubernetesClient.apps().deployments().inNamespace(namespace).create(deployment);
+  private boolean isAvailable(Deployment deployment) {
+    if (deployment == null || deployment.getStatus() == null
+        || deployment.getStatus().getConditions() == null) {
+      return false;
+    }
+    return deployment.getStatus().getConditions().stream()
+        .anyMatch(condition -> "Available".equals(condition.getType())
+            && "True".equals(condition.getStatus()));
+  }
 
-      // NodePort 방식의 서비스 생성
-      Service service = new ServiceBuilder()
-          .withNewMetadata()
-          .withName(deploymentName + "-service")
-          .withNamespace(namespace)
-          .addToLabels(LabelKey.ENV.getKey(), ENV_LABEL)
-          .addToLabels(LabelKey.GROUP_ID.getKey(), String.valueOf(groupId))
-          .addToLabels(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-          .endMetadata()
-          .withNewSpec()
-          .withType("NodePort")
-          .addNewPort()
-          .withProtocol("TCP")
-          .withPort(projectImage.getPort()) // 서비스가 제공하는 포트
-          .withTargetPort(new IntOrString(projectImage.getPort())) // 컨테이너 내부 포트
-          .withNodePort(nodePort) // NodePort 지정 (30000~32767 범위에서 지정 가능)
-          .endPort()
-          .addToSelector(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName) // 파드와 서비스 매칭
-          .endSpec()
-          .build();
+  /**
+   * 생성 요청들을 동시에 실행하고 모두 끝날 때까지 대기 - 실패한 요청이 있으면 그 예외를 던짐
+   */
+  private void runAll(List<Runnable> tasks) {
+    CompletableFuture<?>[] futures = tasks.stream()
+        .map(task -> CompletableFuture.runAsync(
+            () -> kubernetesGateway.run(KubernetesVerb.WRITE, task), kubernetesExecutor))
+        .toArray(CompletableFuture[]::new);
 
-      // 서비스 생성
-      kubernetesClient.services().inNamespace(namespace).create(service);
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
 
+  private void createIfAbsent(Runnable create) {
+    try {
+      create.run();
     } catch (KubernetesClientException e) {
-      e.printStackTrace();
-      throw new RuntimeException("파드 생성 오류");
+      if (e.getCode() != 409) { // 409 Conflict - 이미 존재하는 리소스
+        throw e;
+      }
     }
   }
 
   public void deletePod(LabelKey labelKey, String labelValue) {
+    deleteByLabels(Map.of(labelKey.getKey(), labelValue));
+  }
+
+  /**
+   * 그룹의 모든 작업 공간 리소스 삭제
+   * <p>
+   * PV 는 클러스터 범위이고 네임스페이스를 다른 환경과 함께 쓸 수도 있으므로, 그룹 ID 만으로 고르면 다른 환경의 같은 그룹 ID 리소스까지 지워집니다.
+   * 환경 라벨을 함께 조건으로 사용합니다.
+   */
+  public void deleteGroupResources(Integer groupId) {
+    deleteByLabels(groupSelector(groupId));
+  }
+
+  Map<String, String> groupSelector(Integer groupId) {
+    return Map.of(LabelKey.ENV.getKey(), ENV_LABEL,
+        LabelKey.GROUP_ID.getKey(), String.valueOf(groupId));
+  }
+
+  // 라벨이 모두 일치하는 리소스를 종류별로 한 번씩 삭제
+  private void deleteByLabels(Map<String, String> labels) {
     try {
 
-      kubernetesClient.apps().deployments()
+      kubernetesGateway.run(KubernetesVerb.DELETE, () -> kubernetesClient.apps().deployments()
           .inNamespace(namespace)
-          .withLabel(labelKey.getKey(), labelValue)
-          .delete();
+          .withLabels(labels)
+          .delete());
 
-      kubernetesClient.services()
+      kubernetesGateway.run(KubernetesVerb.DELETE, () -> kubernetesClient.services()
           .inNamespace(namespace)
-          .withLabel(labelKey.getKey(), labelValue)
-          .delete();
+          .withLabels(labels)
+          .delete());
 
-      kubernetesClient.persistentVolumeClaims()
+      kubernetesGateway.run(KubernetesVerb.DELETE, () -> kubernetesClient.persistentVolumeClaims()
           .inNamespace(namespace)
-          .withLabel(labelKey.getKey(), labelValue)
-          .delete();
+          .withLabels(labels)
+          .delete());
 
-      kubernetesClient.persistentVolumes()
-          .withLabel(labelKey.getKey(), labelValue)
-          .delete();
+      kubernetesGateway.run(KubernetesVerb.DELETE, () -> kubernetesClient.persistentVolumes()
+          .withLabels(labels)
+          .delete());
     } catch (Exception e) {
       e.printStackTrace();
       throw new RuntimeException(e);
     }
   }
 
-  public String executeCommand(String deploymentName, String command) {
-    CountDownLatch latch = new CountDownLatch(1); // 실행 완료를 기다릴 latch
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    ByteArrayOutputStream errorStream = new ByteArrayOutputStream();
-
+  /**
+   * Deployment 의 파드 이름 조회 - 동시에 들어온 같은 Deployment 조회는 한 번만 호출
+   */
+  public String getPodName(String deploymentName) {
     // Deployment에서 Pod 목록 가져오기
-    List<Pod> pods = kubernetesClient.pods()
-        .inNamespace(namespace)
-        .withLabel(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
-        .list()
-        .getItems();
+    List<Pod> pods = kubernetesGateway.read("pods:" + deploymentName,
+        () -> kubernetesClient.pods()
+            .inNamespace(namespace)
+            .withLabel(LabelKey.DEPLOYMENT_NAME.getKey(), deploymentName)
+            .list()
+            .getItems());
 
     if (pods.isEmpty()) {
       throw new RuntimeException("해당 Deployment에서 실행 중인 Pod가 없습니다.");
     }
 
-    String podName = pods.get(0).getMetadata().getName(); // 첫 번째 Pod 선택
+    return pods.get(0).getMetadata().getName(); // 첫 번째 Pod 선택
+  }
+
+  /**
+   * 명령 실행 후 표준 출력 반환 - 종료 코드가 0 이 아니면 표준 오류 내용에 따라 예외를 던짐
+   * <p>
+   * 종료 코드로 성공 여부를 판단하므로 경고만 표준 오류에 쓰는 명령은 성공으로 처리됩니다.
+   */
+  public String executeCommand(String deploymentName, String command) {
+    return executeCommand(deploymentName, command, abbreviate(command));
+  }
+
+  /**
+   * @param description 로그와 예외 메시지에 남길 명령 설명 - 파일 내용 등 명령 전체를 남기지 않기 위해 사용
+   */
+  private String executeCommand(String deploymentName, String command, String description) {
+    ExecResult result = exec(deploymentName, command, description,
+        Duration.ofMillis(execTimeoutMillis));
+    // 잘린 출력을 그대로 돌려주면 파일 내용이나 목록 일부가 조용히 사라지므로 실패로 처리
+    if (result.outputTruncated()) {
+      throw new WebsocketException("Command output is too large");
+    }
+    if (result.isSuccess()) {
+      return result.stdout().trim();
+    }
+
+    String error = result.stderr().trim();
+    if (error.contains("No such file or directory")) {
+      throw new WebsocketException("Path does not exist");
+    } else if (error.contains("Is a directory")) {
+      throw new WebsocketException("Invalid type");
+    } else if (error.contains("Permission denied")) {
+      throw new WebsocketException("Permission denied for command");
+    } else if (error.contains("cannot remove") || error.contains("failed to")) {
+      throw new WebsocketException("File operation failed");
+    } else {
+      throw new KubernetesClientException(
+          "Command failed (exit " + result.exitCode() + "): " + error);
+    }
+  }
+
+  /**
+   * 명령 실행 - 제한 시간이 지나거나 호출 스레드가 인터럽트되면 exec 연결을 닫고 예외를 던짐
+   *
+   * @param timeout 연결부터 종료 코드 수신까지의 최대 시간
+   */
+  public ExecResult exec(String deploymentName, String command, Duration timeout) {
+    return exec(deploymentName, command, abbreviate(command), timeout);
+  }
+
+  private ExecResult exec(String deploymentName, String command, String description,
+      Duration timeout) {
+    String podName = getPodName(deploymentName);
+    return kubernetesGateway.exec(
+        () -> execInPod(podName, deploymentName, command, description, timeout));
+  }
+
+  private ExecResult execInPod(String podName, String deploymentName, String command,
+      String description, Duration timeout) {
+    long startedAt = System.currentTimeMillis();
+    long deadline = startedAt + timeout.toMillis();
+    BoundedOutputStream outputStream = new BoundedOutputStream(execOutputLimitBytes);
+    BoundedOutputStream errorStream = new BoundedOutputStream(execOutputLimitBytes);
+    // 출력은 종료 코드를 받은 뒤에도 별도 스레드에서 쓰일 수 있으므로 연결이 닫힐 때까지 기다린 뒤 읽음
+    CountDownLatch closed = new CountDownLatch(1);
 
     try (ExecWatch watch = kubernetesClient.pods()
         .inNamespace(namespace)
@@ -284,78 +539,115 @@ public class KubernetesUtil {
         .writingError(errorStream)    // 오류 출력 저장
         .usingListener(new ExecListener() {
           @Override
-          public void onOpen() {
-          }
-
-          @Override
-          public void onFailure(Throwable t, Response response) {
-            latch.countDown(); // 실패 시 즉시 종료
+          public void onFailure(Throwable t, Response failureResponse) {
+            closed.countDown();
           }
 
           @Override
           public void onClose(int code, String reason) {
-            latch.countDown(); // 명령어 실행 종료 시 countDown 호출
+            closed.countDown();
           }
         })
         .exec("sh", "-c", command)) {
 
-      latch.await(); // 실행 완료될 때까지 대기
-      String output = outputStream.toString().trim();
-      String error = errorStream.toString().trim();
-
-      if (!error.isEmpty()) {
-        if (error.contains("No such file or directory")) {
-          throw new WebsocketException("Path does not exist");
-        } else if (error.contains("Is a directory")) {
-          throw new WebsocketException("Invalid type");
-        } else if (error.contains("Permission denied")) {
-          throw new WebsocketException("Permission denied for command");
-        } else if (error.contains("cannot remove") || error.contains("failed to")) {
-          throw new WebsocketException("File operation failed");
-        } else {
-          throw new KubernetesClientException("Command failed: " + error);
-        }
+      // 상태 채널로 종료 코드를 받을 때까지 대기 - 제한 시간이 지나면 try-with-resources 가 연결을 닫음
+      Integer exitCode = watch.exitCode().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      // 남은 출력이 모두 기록될 때까지 같은 제한 시간 안에서 대기
+      if (!closed.await(Math.max(0, deadline - System.currentTimeMillis()),
+          TimeUnit.MILLISECONDS)) {
+        throw new TimeoutException();
       }
 
-      return output;
-    } catch (WebsocketException e) {
-      throw e;
+      return new ExecResult(exitCode != null ? exitCode : -1, outputStream.toString(),
+          errorStream.toString(), outputStream.isTruncated() || errorStream.isTruncated(),
+          System.currentTimeMillis() - startedAt);
+    } catch (TimeoutException e) {
+      throw new KubernetesClientException("Command timed out after " + timeout.toMillis()
+          + "ms: deployment=" + deploymentName + ", command=" + description);
     } catch (InterruptedException e) {
-      e.printStackTrace();
       Thread.currentThread().interrupt();
-      throw new KubernetesClientException("Command execution interrupted:", e);
-    } catch (Exception e) {
-      e.printStackTrace();
-      throw new KubernetesClientException("Unexpected error executing command", e);
+      throw new KubernetesClientException("Command execution interrupted", e);
+    } catch (ExecutionException e) {
+      throw new KubernetesClientException("Command execution failed", e.getCause());
     }
   }
 
+  /**
+   * 파드 내부 파일에 내용을 기록
+   */
+  public void writeFile(String deploymentName, String filePath, String content) {
+    String command = String.format("echo '%s' > %s", content.replace("'", "'\\''"), filePath);
+    executeCommand(deploymentName, command, "write " + filePath);
+  }
+
+  // 명령이 길면 앞부분만 남김
+  private String abbreviate(String command) {
+    return command.length() <= LOGGED_COMMAND_LENGTH ? command
+        : command.substring(0, LOGGED_COMMAND_LENGTH) + "...";
+  }
+
   public void scaleDeployment(String deploymentName, int replicas) {
-    try {
-      Deployment deployment = kubernetesClient.apps().deployments()
-          .inNamespace(namespace)
-          .withName(deploymentName)
-          .get();
+    kubernetesGateway.run(KubernetesVerb.WRITE, () -> updateReplicas(deploymentName, replicas));
+  }
 
-      if (deployment == null) {
-        throw new RuntimeException("해당 이름의 Deployment를 찾을 수 없습니다: " + deploymentName);
+  /**
+   * 여러 Deployment 의 replica 를 동시에 변경 - 동시 요청 수는 scalingExecutor 스레드 수로 제한
+   * <p>
+   * 파드 준비를 최대 수십 초 기다리는 작업이 kubernetesExecutor 를 차지하고 있어도 일괄 중지가 밀리지 않도록 별도 스레드 풀을 사용합니다.
+   *
+   * @return 변경에 실패한 Deployment 이름
+   */
+  public List<String> scaleDeployments(Collection<String> deploymentNames, int replicas) {
+    Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+    deploymentNames.forEach(deploymentName -> futures.put(deploymentName,
+        CompletableFuture.runAsync(() -> scaleDeployment(deploymentName, replicas),
+            scalingExecutor)));
+
+    List<String> failed = new ArrayList<>();
+    futures.forEach((deploymentName, future) -> {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        failed.add(deploymentName);
       }
+    });
+    return failed;
+  }
 
-      // Replica 개수 설정
-      deployment.getSpec().setReplicas(replicas);
-
-      // Deployment 업데이트
+  // replicas 만 merge patch 로 변경 - 조회 없이 한 번에 요청하고 다른 필드의 변경과 충돌하지 않음
+  private void updateReplicas(String deploymentName, int replicas) {
+    try {
       kubernetesClient.apps().deployments()
           .inNamespace(namespace)
           .withName(deploymentName)
-          .replace(deployment);
-
-      System.out.println(
-          "Deployment " + deploymentName + "의 replica 수를 " + replicas + "로 변경하였습니다.");
+          .patch(PatchContext.of(PatchType.JSON_MERGE),
+              "{\"spec\":{\"replicas\":" + replicas + "}}");
     } catch (KubernetesClientException e) {
+      if (e.getCode() == 404) {
+        throw new RuntimeException("해당 이름의 Deployment를 찾을 수 없습니다: " + deploymentName);
+      }
+      if (e.getCode() == 429) {
+        throw e;
+      }
       e.printStackTrace();
       throw new RuntimeException("Deployment replica 조정 중 오류 발생");
     }
   }
 
+  /**
+   * 서비스에 지정한 NodePort 를 다른 서비스가 이미 사용 중
+   */
+  public static class NodePortConflictException extends RuntimeException {
+
+    private final int nodePort;
+
+    public NodePortConflictException(int nodePort) {
+      super("NodePort already allocated: " + nodePort);
+      this.nodePort = nodePort;
+    }
+
+    public int getNodePort() {
+      return nodePort;
+    }
+  }
 }
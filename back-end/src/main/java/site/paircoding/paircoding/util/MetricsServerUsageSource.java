@@ -0,0 +1,103 @@
+package site.paircoding.paircoding.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.ContainerMetrics;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetrics;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.entity.dto.ResourceUsageSample;
+import site.paircoding.paircoding.entity.enums.LabelKey;
+
+/**
+ * metrics-server 와 kubelet 통계로 사용량 수집
+ * <p>
+ * CPU, 메모리는 네임스페이스 전체 PodMetrics 한 번, PVC 사용량은 노드별 kubelet stats/summary 한 번씩 조회합니다. 호출 수는 노드 수에만
+ * 비례합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricsServerUsageSource implements ResourceUsageSource {
+
+  private static final String STATS_SUMMARY_PATH = "/api/v1/nodes/%s/proxy/stats/summary";
+  private static final String PVC_SUFFIX = "-pvc";
+
+  @Value("${kubernetes.namespace}")
+  private String namespace;
+
+  // kubelet 프록시 권한이 없는 클러스터에서는 끔
+  @Value("${usage.volume-stats-enabled:true}")
+  private boolean volumeStatsEnabled;
+
+  private final KubernetesClient kubernetesClient;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public Map<String, ResourceUsageSample> collect(long timestamp) {
+    Map<String, Long> storage = volumeStatsEnabled ? collectVolumeUsage() : Map.of();
+
+    Map<String, ResourceUsageSample> usage = new HashMap<>();
+    for (PodMetrics pod : kubernetesClient.top().pods().inNamespace(namespace).metrics()
+        .getItems()) {
+      Map<String, String> labels = pod.getMetadata().getLabels();
+      String deploymentName = labels != null ? labels.get(LabelKey.DEPLOYMENT_NAME.getKey()) : null;
+      if (deploymentName == null) {
+        continue;
+      }
+
+      BigDecimal cpu = BigDecimal.ZERO;
+      BigDecimal memory = BigDecimal.ZERO;
+      for (ContainerMetrics container : pod.getContainers()) {
+        cpu = cpu.add(amount(container.getUsage().get("cpu")));
+        memory = memory.add(amount(container.getUsage().get("memory")));
+      }
+
+      usage.put(deploymentName, new ResourceUsageSample(timestamp,
+          cpu.multiply(BigDecimal.valueOf(1000)).longValue(), memory.longValue(),
+          storage.get(deploymentName)));
+    }
+    return usage;
+  }
+
+  /**
+   * @return Deployment 이름 -> PVC 사용 바이트
+   */
+  private Map<String, Long> collectVolumeUsage() {
+    Map<String, Long> usage = new HashMap<>();
+    for (Node node : kubernetesClient.nodes().list().getItems()) {
+      String nodeName = node.getMetadata().getName();
+      try {
+        JsonNode summary = objectMapper.readTree(
+            kubernetesClient.raw(STATS_SUMMARY_PATH.formatted(nodeName)));
+        for (JsonNode pod : summary.path("pods")) {
+          if (!namespace.equals(pod.path("podRef").path("namespace").asText())) {
+            continue;
+          }
+          for (JsonNode volume : pod.path("volume")) {
+            String claimName = volume.path("pvcRef").path("name").asText("");
+            if (claimName.endsWith(PVC_SUFFIX) && volume.has("usedBytes")) {
+              usage.put(claimName.substring(0, claimName.length() - PVC_SUFFIX.length()),
+                  volume.path("usedBytes").asLong());
+            }
+          }
+        }
+      } catch (Exception e) {
+        log.warn("Failed to read volume stats: node={}", nodeName, e);
+      }
+    }
+    return usage;
+  }
+
+  private BigDecimal amount(Quantity quantity) {
+    return quantity != null ? Quantity.getAmountInBytes(quantity) : BigDecimal.ZERO;
+  }
+}
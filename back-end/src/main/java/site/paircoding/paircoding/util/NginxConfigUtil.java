@@ -1,13 +1,23 @@
 package site.paircoding.paircoding.util;
 
-import com.jcraft.jsch.ChannelExec;
-import com.jcraft.jsch.JSch;
-import com.jcraft.jsch.JSchException;
-import com.jcraft.jsch.Session;
-import java.io.ByteArrayOutputStream;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.config.AppConfig;
+import site.paircoding.paircoding.repository.ProjectRepository;
 
 @Component
 @RequiredArgsConstructor
@@ -31,135 +41,215 @@ public class NginxConfigUtil {
 
   private static final String NGINX_AVAILABLE_PATH = "/etc/nginx/sites-available/";
   private static final String NGINX_ENABLED_PATH = "/etc/nginx/sites-enabled/";
-
-  private Session getSession() throws JSchException {
-    JSch jsch = new JSch();
-    Session session = jsch.getSession(SSH_USER, SSH_HOST, SSH_PORT);
-    session.setPassword(SSH_PASSWORD);
-    session.setConfig("StrictHostKeyChecking", "no");
-    session.connect();
-
-    return session;
+  // 모든 프로젝트가 함께 쓰는 server 블록과 호스트 -> NodePort map
+  private static final String SERVER_BLOCK_FILE = "pading-projects.conf";
+  private static final String ROUTE_MAP_PATH = NGINX_AVAILABLE_PATH + "pading-routes.map";
+
+  // 프로젝트 NodePort 로 접근할 쿠버네티스 노드 주소
+  @Value("${ssh.nginx-server.upstream-host:192.168.0.38}")
+  private String upstreamHost;
+
+  // nginx 서버에 유지하는 SSH 세션 수
+  @Value("${ssh.nginx-server.pool-size:2}")
+  private int poolSize;
+
+  // 세션이 모두 사용 중일 때 기다리는 최대 시간
+  @Value("${ssh.nginx-server.borrow-timeout-ms:10000}")
+  private long borrowTimeoutMillis;
+
+  // 원격 명령(설정 검사, reload 포함)이 끝나기를 기다리는 최대 시간
+  @Value("${ssh.nginx-server.command-timeout-ms:30000}")
+  private long commandTimeoutMillis;
+
+  // 이 시간 동안 들어온 설정 변경을 모아 한 번에 반영하고 reload
+  @Value("${ssh.nginx-server.reload-debounce-ms:300}")
+  private long reloadDebounceMillis;
+
+  private final AppConfig appConfig;
+  private final ProjectRepository projectRepository;
+  private final ThreadPoolTaskScheduler nginxReloadScheduler;
+  private final ProjectRouteRegistry projectRouteRegistry;
+
+  private SshSessionPool sessionPool;
+  private NginxRouteMapGenerator routeMapGenerator;
+  private final Queue<PendingChange> pendingChanges = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  @PostConstruct
+  public void init() {
+    sessionPool = new SshSessionPool(SSH_HOST, SSH_PORT, SSH_USER, SSH_PASSWORD, poolSize,
+        borrowTimeoutMillis, commandTimeoutMillis);
+    routeMapGenerator = new NginxRouteMapGenerator(appConfig.getDomain(), upstreamHost);
   }
 
-  private String generateNginxConfigContent(String subdomain, int nodePort) {
-    return """
-        server {
-            listen 80;
-            server_name %s.pair-coding.site;
-        
-            location / {
-                return 301 https://$host$request_uri;  # HTTP에서 HTTPS로 리다이렉트
-            }
-        }
-        
-        server {
-            listen 443 ssl;
-            server_name %s.pair-coding.site;
-        
-            ssl_certificate /etc/letsencrypt/live/pair-coding.site/fullchain.pem;
-            ssl_certificate_key /etc/letsencrypt/live/pair-coding.site/privkey.pem;
-        
-            include /etc/letsencrypt/options-ssl-nginx.conf;  # managed by Certbot
-            ssl_dhparam /etc/letsencrypt/ssl-dhparams.pem;    # managed by Certbot
-        
-            client_max_body_size 100M;
-        
-            location / {
-                proxy_pass http://192.168.0.38:%d;
-                proxy_set_header Host $host;
-                proxy_set_header X-Real-IP $remote_addr;
-                proxy_set_header X-Forwarded-For $proxy_add_x_forwarded_for;
-                proxy_set_header X-Forwarded-Proto $scheme;
-            }
-        }
-        
-        """.formatted(subdomain, subdomain, nodePort);
+  @PreDestroy
+  public void close() {
+    sessionPool.close();
   }
 
-  private void executeCommand(Session session, String command) throws Exception {
+  // 쉬고 있는 세션이 끊기지 않도록 주기적으로 확인
+  @Scheduled(fixedDelayString = "${ssh.nginx-server.keep-alive-ms:60000}")
+  public void keepAlive() {
+    sessionPool.keepAlive();
+  }
 
-    ChannelExec channel = (ChannelExec) session.openChannel("exec");
-    channel.setCommand(command);
-    channel.setInputStream(null);
-    channel.setErrStream(System.err);
+  public String createSubdomain(String deploymentName) {
+    return SUBDOMAIN_PREFIX + deploymentName;
+  }
 
-    ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
-    channel.setOutputStream(responseStream);
+  /**
+   * 프로젝트 라우팅 추가
+   *
+   * @return 변경이 nginx 에 반영(reload)되면 완료되는 future
+   */
+  public CompletableFuture<Void> createNginxConfig(String subdomain, int nodePort) {
+    projectRouteRegistry.register(subdomain, nodePort);
+
+    Map<String, Integer> routes = new HashMap<>();
+    routes.put(subdomain, nodePort);
+    return submit(routes, List.of());
+  }
 
-    channel.connect();
+  /**
+   * 프로젝트 라우팅 삭제
+   *
+   * @return 변경이 nginx 에 반영(reload)되면 완료되는 future
+   */
+  public CompletableFuture<Void> deleteNginxConfig(String deploymentName) {
+    return deleteNginxConfigs(List.of(deploymentName));
+  }
 
-    while (!channel.isClosed()) {
-      Thread.sleep(100);
+  /**
+   * 여러 프로젝트의 라우팅을 한 번에 삭제
+   *
+   * @return 변경이 nginx 에 반영(reload)되면 완료되는 future
+   */
+  public CompletableFuture<Void> deleteNginxConfigs(List<String> deploymentNames) {
+    if (deploymentNames.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
     }
 
-    channel.disconnect();
+    Map<String, Integer> routes = new HashMap<>();
+    List<String> legacyFiles = new ArrayList<>();
+    for (String deploymentName : deploymentNames) {
+      String subdomain = createSubdomain(deploymentName);
+      routes.put(subdomain, null);
+      // 프로젝트별 server 블록을 쓰던 때 만든 설정 파일
+      legacyFiles.add(NGINX_AVAILABLE_PATH + subdomain + ".conf");
+      legacyFiles.add(NGINX_ENABLED_PATH + subdomain + ".conf");
+    }
+    projectRouteRegistry.unregister(List.copyOf(routes.keySet()));
+    return submit(routes, legacyFiles);
   }
 
-  public String createSubdomain(String deploymentName) {
-    return SUBDOMAIN_PREFIX + deploymentName;
+  /**
+   * 라우팅 변경 등록 - 첫 변경이 들어오고 reload-debounce-ms 가 지나면 그동안 모인 변경을 한 번에 반영
+   *
+   * @param routes 서브도메인 -> NodePort, 삭제는 null
+   */
+  private CompletableFuture<Void> submit(Map<String, Integer> routes, List<String> legacyFiles) {
+    PendingChange change = new PendingChange(routes, legacyFiles, new CompletableFuture<>());
+    pendingChanges.add(change);
+    if (flushScheduled.compareAndSet(false, true)) {
+      nginxReloadScheduler.schedule(this::flush, Instant.now().plusMillis(reloadDebounceMillis));
+    }
+    return change.future();
   }
 
-  public void createNginxConfig(String subdomain, int nodePort) {
-    Session session = null;
-
-    String configFileName = subdomain + ".conf"; // Nginx 설정 파일명 변환
-    String configFilePath = NGINX_AVAILABLE_PATH + configFileName;
-    String configContent = generateNginxConfigContent(subdomain, nodePort);
+  /**
+   * DB 의 전체 라우팅에 모인 변경을 덮어써 map 파일을 다시 만들고, 설정 검사를 통과하면 한 번만 reload
+   * <p>
+   * 매번 전체를 다시 만들기 때문에 다른 서버에서 반영한 변경도 함께 맞춰집니다.
+   */
+  private synchronized void flush() {
+    // 비우기 전에 해제해야 이후에 들어온 변경이 다음 반영을 예약함
+    flushScheduled.set(false);
+
+    List<PendingChange> batch = new ArrayList<>();
+    PendingChange change;
+    while ((change = pendingChanges.poll()) != null) {
+      batch.add(change);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
 
     try {
-      // SSH 연결
-      session = getSession();
-
-      // 설정 파일 생성
-      String createConfigCommand = "echo '" + configContent + "' > " + configFilePath;
-      executeCommand(session, createConfigCommand);
-
-      // 심볼릭 링크 생성
-      String linkCommand = "ln -s " + configFilePath + " " + NGINX_ENABLED_PATH + configFileName;
-      executeCommand(session, linkCommand);
-
-      // Nginx 재시작
-      String reloadNginxCommand = "sudo nginx -s reload";
-      executeCommand(session, reloadNginxCommand);
+      Map<String, Integer> routes = new HashMap<>();
+      projectRepository.findAllRoutes().forEach(route ->
+          routes.put(createSubdomain(route.deploymentName()), route.nodePort()));
+
+      List<String> legacyFiles = new ArrayList<>();
+      for (PendingChange pending : batch) {
+        // 삭제가 아직 커밋되지 않았을 수 있으므로 등록 순서대로 덮어씀
+        pending.routes().forEach((subdomain, nodePort) -> {
+          if (nodePort == null) {
+            routes.remove(subdomain);
+          } else {
+            routes.put(subdomain, nodePort);
+          }
+        });
+        legacyFiles.addAll(pending.legacyFiles());
+      }
 
+      // 파일 내용은 명령 인자 길이 제한을 넘을 수 있으므로 표준 입력으로 전달
+      String serverBlockPath = NGINX_AVAILABLE_PATH + SERVER_BLOCK_FILE;
+      sessionPool.execute(writeNew(serverBlockPath),
+          routeMapGenerator.generateServerBlock(ROUTE_MAP_PATH));
+      sessionPool.execute(writeNew(ROUTE_MAP_PATH) + " && "
+              + installAndReload(List.of(serverBlockPath, ROUTE_MAP_PATH), legacyFiles),
+          routeMapGenerator.generateRouteMap(routes));
+      batch.forEach(pending -> pending.future().complete(null));
     } catch (Exception e) {
       e.printStackTrace();
-    } finally {
-      if (session != null) {
-        session.disconnect();
-      }
+      RuntimeException failure = new RuntimeException("nginx 설정 반영 오류", e);
+      batch.forEach(pending -> pending.future().completeExceptionally(failure));
     }
   }
 
-  public void deleteNginxConfig(String subdomain) {
-    Session session = null;
-
-    String configFileName = SUBDOMAIN_PREFIX + subdomain + ".conf"; // Nginx 설정 파일명 변환
-    String configFilePath = NGINX_AVAILABLE_PATH + configFileName;
-
-    try {
-      // SSH 연결
-      session = getSession();
+  // 표준 입력을 임시(.new) 파일에 씀 - 검사 전에는 기존 설정을 건드리지 않음
+  private String writeNew(String path) {
+    return "cat > " + path + ".new";
+  }
 
-      // 설정 파일 삭제
-      String createConfigCommand = "rm " + configFilePath;
-      executeCommand(session, createConfigCommand);
+  /**
+   * 임시 파일을 제자리로 옮긴 뒤 설정을 검사하고, 통과하면 reload
+   * <p>
+   * 검사에 실패하면 이전 파일로 되돌리고 0 이 아닌 코드로 끝나므로, 잘못된 라우팅 하나가 남아 이후 모든 반영을 막지 않습니다. 이름 변경이라
+   * nginx 가 반쯤 쓰인 파일을 읽지도 않습니다.
+   */
+  private String installAndReload(List<String> paths, List<String> legacyFiles) {
+    String link = NGINX_ENABLED_PATH + SERVER_BLOCK_FILE;
+    StringBuilder command = new StringBuilder("{ ");
+    for (String path : paths) {
+      command.append("cp -f ").append(path).append(' ').append(path).append(".bak 2>/dev/null")
+          .append(" || rm -f ").append(path).append(".bak; ");
+    }
+    for (String path : paths) {
+      command.append("mv -f ").append(path).append(".new ").append(path).append("; ");
+    }
+    command.append("NEW_LINK=; if [ ! -e ").append(link).append(" ]; then ln -sf ")
+        .append(NGINX_AVAILABLE_PATH + SERVER_BLOCK_FILE).append(' ').append(link)
+        .append("; NEW_LINK=1; fi; ");
 
-      // 심볼릭 링크 삭제
-      String linkCommand = "rm " + NGINX_ENABLED_PATH + configFileName;
-      executeCommand(session, linkCommand);
+    command.append("if sudo nginx -t; then ");
+    for (String path : paths) {
+      command.append("rm -f ").append(path).append(".bak; ");
+    }
+    if (!legacyFiles.isEmpty()) {
+      command.append("rm -f ").append(String.join(" ", legacyFiles)).append("; ");
+    }
+    command.append("sudo nginx -s reload; else ");
+    for (String path : paths) {
+      command.append("if [ -f ").append(path).append(".bak ]; then mv -f ").append(path)
+          .append(".bak ").append(path).append("; else rm -f ").append(path).append("; fi; ");
+    }
+    command.append("[ -z \"$NEW_LINK\" ] || rm -f ").append(link).append("; exit 1; fi; }");
+    return command.toString();
+  }
 
-      // Nginx 재시작
-      String reloadNginxCommand = "sudo nginx -s reload";
-      executeCommand(session, reloadNginxCommand);
+  private record PendingChange(Map<String, Integer> routes, List<String> legacyFiles,
+                               CompletableFuture<Void> future) {
 
-    } catch (Exception e) {
-      e.printStackTrace();
-    } finally {
-      if (session != null) {
-        session.disconnect();
-      }
-    }
   }
 }
@@ -0,0 +1,99 @@
+package site.paircoding.paircoding.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * nginx 라우팅 설정 생성
+ * <p>
+ * 프로젝트마다 server 블록을 두지 않고, 호스트 이름 -> NodePort 를 담은 {@code map} 파일 하나와 모든 프로젝트가 함께 쓰는 와일드카드
+ * server 블록 하나로 라우팅합니다. 프로젝트가 늘어도 server 블록 수는 그대로이고 map 은 해시 조회라 reload 비용이 거의 늘지 않습니다.
+ * <p>
+ * SSH, 파일 시스템에 의존하지 않는 순수 문자열 생성만 담당합니다.
+ */
+public class NginxRouteMapGenerator {
+
+  public static final String PORT_VARIABLE = "$project_upstream_port";
+
+  // 셸 명령과 nginx 설정에 그대로 들어가므로 호스트 이름에 허용하는 문자를 제한
+  private static final Pattern HOST_PATTERN = Pattern.compile("[a-z0-9]([a-z0-9.-]*[a-z0-9])?");
+
+  private final String domain;
+  private final String upstreamHost;
+
+  public NginxRouteMapGenerator(String domain, String upstreamHost) {
+    this.domain = domain;
+    this.upstreamHost = upstreamHost;
+  }
+
+  /**
+   * 서브도메인 -> NodePort 로 map 파일 내용 생성 - 같은 입력이면 항상 같은 내용 (호스트 이름 순 정렬)
+   */
+  public String generateRouteMap(Map<String, Integer> routes) {
+    Map<String, Integer> sorted = new TreeMap<>();
+    routes.forEach((subdomain, nodePort) -> sorted.put(host(subdomain), nodePort));
+
+    StringBuilder content = new StringBuilder()
+        .append("# 자동 생성 파일 - 직접 수정하지 마세요\n")
+        .append("map $host ").append(PORT_VARIABLE).append(" {\n")
+        .append("    default 0;\n");
+    sorted.forEach((host, nodePort) -> content.append("    ").append(host).append(' ')
+        .append(nodePort).append(";\n"));
+    return content.append("}\n").toString();
+  }
+
+  /**
+   * 모든 프로젝트가 함께 쓰는 와일드카드 server 블록
+   *
+   * @param routeMapPath map 파일 경로 - http 컨텍스트에서 include 됨
+   */
+  public String generateServerBlock(String routeMapPath) {
+    return """
+        include %s;
+
+        server {
+            listen 80;
+            server_name *.%s;
+
+            location / {
+                return 301 https://$host$request_uri;  # HTTP에서 HTTPS로 리다이렉트
+            }
+        }
+
+        server {
+            listen 443 ssl;
+            server_name *.%s;
+
+            ssl_certificate /etc/letsencrypt/live/pair-coding.site/fullchain.pem;
+            ssl_certificate_key /etc/letsencrypt/live/pair-coding.site/privkey.pem;
+
+            include /etc/letsencrypt/options-ssl-nginx.conf;  # managed by Certbot
+            ssl_dhparam /etc/letsencrypt/ssl-dhparams.pem;    # managed by Certbot
+
+            client_max_body_size 100M;
+
+            # 등록되지 않은 서브도메인
+            if (%s = 0) {
+                return 404;
+            }
+
+            location / {
+                proxy_pass http://%s:%s;
+                proxy_set_header Host $host;
+                proxy_set_header X-Real-IP $remote_addr;
+                proxy_set_header X-Forwarded-For $proxy_add_x_forwarded_for;
+                proxy_set_header X-Forwarded-Proto $scheme;
+            }
+        }
+        """.formatted(routeMapPath, domain, domain, PORT_VARIABLE, upstreamHost, PORT_VARIABLE);
+  }
+
+  private String host(String subdomain) {
+    String host = (subdomain + "." + domain).toLowerCase();
+    if (!HOST_PATTERN.matcher(host).matches()) {
+      throw new IllegalArgumentException("Invalid host name: " + host);
+    }
+    return host;
+  }
+}
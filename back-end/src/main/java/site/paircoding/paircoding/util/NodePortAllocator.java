@@ -0,0 +1,215 @@
+package site.paircoding.paircoding.util;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import jakarta.annotation.PreDestroy;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.repository.ProjectRepository;
+
+/**
+ * NodePort 할당기
+ * <p>
+ * [nodePortMin, nodePortMax) 범위를 비트맵으로 관리합니다. 클러스터 서비스가 사용하는 포트는 최초 한 번 조회한 뒤 Service informer 로
+ * 갱신하고, 프로젝트에 예약된 포트는 DB 의 Project.nodePort 와 맞춥니다. 두 비트맵 모두 비어 있는 포트만 할당합니다.
+ * <p>
+ * 비트맵은 서버마다 따로 있으므로, 고른 포트는 Redis SETNX 로 한 번 더 예약하고 DB 에 이미 저장된 포트인지 확인합니다. Redis 예약은 DB 에
+ * 저장되기 전까지만 필요하므로 유지 시간이 지나면 사라집니다. 미할당 프로젝트가 0 을 공유하므로 node_port 에 유니크 제약은 걸 수 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NodePortAllocator {
+
+  // 아직 DB 에 저장되지 않았을 수 있는 예약을 재조정 시 유지하는 시간
+  private static final long RESERVATION_GRACE_MILLIS = 5 * 60 * 1000;
+  private static final String RESERVATION_KEY = "nodePortReservation:%d"; // Redis 저장 키 형식
+
+  @Value("${kubernetes.nodeport.min}")
+  private int nodePortMin;
+
+  @Value("${kubernetes.nodeport.max}")
+  private int nodePortMax;
+
+  private final KubernetesClient kubernetesClient;
+  private final ProjectRepository projectRepository;
+  private final RedisUtil redisUtil;
+
+  // 클러스터의 NodePort 서비스가 사용 중인 포트
+  private final BitSet clusterPorts = new BitSet();
+  // 프로젝트에 예약된 포트
+  private final BitSet reservedPorts = new BitSet();
+  // 최근 예약 시각 (포트 -> 예약 시각)
+  private final Map<Integer, Long> recentReservations = new ConcurrentHashMap<>();
+
+  private final Object initLock = new Object();
+  private volatile SharedIndexInformer<Service> informer;
+  private int nextIndex;
+
+  /**
+   * 사용 가능한 NodePort 를 예약하여 반환 - 다른 서버와 겹치지 않는 포트만 돌려줌
+   */
+  public int allocate() {
+    ensureInitialized();
+
+    for (int attempt = 0; attempt < nodePortMax - nodePortMin; attempt++) {
+      int nodePort = reserveLocally();
+      if (redisUtil.setIfAbsent(RESERVATION_KEY.formatted(nodePort), "reserved",
+          RESERVATION_GRACE_MILLIS / 1000) && !projectRepository.existsByNodePort(nodePort)) {
+        return nodePort;
+      }
+      // 다른 서버가 이미 예약함 - 로컬 비트맵에는 사용 중으로 남겨 두고 다음 포트 시도
+      log.info("NodePort already reserved by another instance: {}", nodePort);
+    }
+
+    throw new RuntimeException("지정 범위 내 NodePort 전부 사용중");
+  }
+
+  private synchronized int reserveLocally() {
+    int size = nodePortMax - nodePortMin;
+    // 직전에 할당한 포트 다음부터 찾아서 방금 반납된 포트의 즉시 재사용을 피함
+    for (int i = 0; i < size; i++) {
+      int index = (nextIndex + i) % size;
+      if (!clusterPorts.get(index) && !reservedPorts.get(index)) {
+        reservedPorts.set(index);
+        nextIndex = (index + 1) % size;
+
+        int nodePort = nodePortMin + index;
+        recentReservations.put(nodePort, System.currentTimeMillis());
+        return nodePort;
+      }
+    }
+    throw new RuntimeException("지정 범위 내 NodePort 전부 사용중");
+  }
+
+  /**
+   * 예약된 NodePort 반납 - 프로젝트 삭제 또는 생성 실패 시 호출
+   */
+  public void release(int nodePort) {
+    if (!inRange(nodePort)) {
+      return;
+    }
+    synchronized (this) {
+      reservedPorts.clear(nodePort - nodePortMin);
+      recentReservations.remove(nodePort);
+    }
+    redisUtil.delete(RESERVATION_KEY.formatted(nodePort));
+  }
+
+  /**
+   * 클러스터에서 이미 쓰고 있는 것으로 확인된 포트 표시 - informer 가 반영하기 전에 다시 고르지 않도록 함
+   */
+  public synchronized void markUsed(int nodePort) {
+    if (inRange(nodePort)) {
+      clusterPorts.set(nodePort - nodePortMin);
+    }
+  }
+
+  /**
+   * DB 의 Project.nodePort 기준으로 예약 비트맵을 다시 맞춤
+   * <p>
+   * 다른 인스턴스에서 생성/삭제된 프로젝트를 반영합니다. 최근 예약은 아직 저장 전일 수 있으므로 유지합니다.
+   */
+  @Scheduled(fixedDelayString = "${kubernetes.nodeport.reconcile-ms:300000}",
+      initialDelayString = "${kubernetes.nodeport.reconcile-ms:300000}")
+  public void reconcile() {
+    if (informer == null) {
+      return;
+    }
+
+    BitSet reserved = new BitSet();
+    for (Integer nodePort : projectRepository.findAllNodePorts()) {
+      if (nodePort != null && inRange(nodePort)) {
+        reserved.set(nodePort - nodePortMin);
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    recentReservations.entrySet()
+        .removeIf(entry -> now - entry.getValue() > RESERVATION_GRACE_MILLIS);
+
+    synchronized (this) {
+      recentReservations.keySet().forEach(nodePort -> reserved.set(nodePort - nodePortMin));
+      reservedPorts.clear();
+      reservedPorts.or(reserved);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (informer != null) {
+      informer.stop();
+    }
+  }
+
+  private void ensureInitialized() {
+    if (informer != null) {
+      return;
+    }
+
+    synchronized (initLock) {
+      if (informer != null) {
+        return;
+      }
+
+      // 모든 네임스페이스의 서비스를 한 번 조회한 뒤 변경분만 watch 로 반영
+      SharedIndexInformer<Service> serviceInformer = kubernetesClient.services()
+          .inAnyNamespace()
+          .inform(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(Service service) {
+              markClusterPorts(service, true);
+            }
+
+            @Override
+            public void onUpdate(Service oldService, Service newService) {
+              markClusterPorts(oldService, false);
+              markClusterPorts(newService, true);
+            }
+
+            @Override
+            public void onDelete(Service service, boolean deletedFinalStateUnknown) {
+              markClusterPorts(service, false);
+            }
+          });
+
+      // 이벤트 핸들러는 비동기로 호출되므로 초기 목록은 store 에서 직접 반영
+      serviceInformer.getStore().list().forEach(service -> markClusterPorts(service, true));
+
+      synchronized (this) {
+        for (Integer nodePort : projectRepository.findAllNodePorts()) {
+          if (nodePort != null && inRange(nodePort)) {
+            reservedPorts.set(nodePort - nodePortMin);
+          }
+        }
+      }
+
+      informer = serviceInformer;
+      log.info("NodePort allocator initialized: range=[{}, {})", nodePortMin, nodePortMax);
+    }
+  }
+
+  private synchronized void markClusterPorts(Service service, boolean used) {
+    if (service.getSpec() == null || !"NodePort".equals(service.getSpec().getType())) {
+      return;
+    }
+    for (ServicePort port : service.getSpec().getPorts()) {
+      if (port.getNodePort() != null && inRange(port.getNodePort())) {
+        clusterPorts.set(port.getNodePort() - nodePortMin, used);
+      }
+    }
+  }
+
+  private boolean inRange(int nodePort) {
+    return nodePort >= nodePortMin && nodePort < nodePortMax;
+  }
+}
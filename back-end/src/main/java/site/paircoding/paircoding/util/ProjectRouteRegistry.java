@@ -0,0 +1,96 @@
+package site.paircoding.paircoding.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import site.paircoding.paircoding.repository.ProjectRepository;
+
+/**
+ * 내장 라우팅 게이트웨이(routing-gateway 모듈)용 라우팅 테이블 관리
+ * <p>
+ * 서브도메인 -> NodePort 를 Redis 해시에 저장하고 변경을 채널로 알립니다. 게이트웨이는 해시로 전체 테이블을 읽고 채널로 변경분을 받아 메모리
+ * 테이블에 반영하므로 reload 없이 바로 적용됩니다. {@code routing.gateway.enabled} 가 꺼져 있으면 아무것도 하지 않습니다.
+ * <p>
+ * 기능을 켜기 전에 만든 프로젝트도 라우팅되도록 시작할 때 DB 의 라우트로 해시를 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectRouteRegistry {
+
+  // 게이트웨이 모듈과 같은 값을 사용해야 함
+  public static final String ROUTES_KEY = "projectRoutes";
+  public static final String ROUTES_CHANNEL = "projectRoutes:changed";
+
+  @Value("${routing.gateway.enabled:false}")
+  private boolean enabled;
+
+  // NginxConfigUtil.createSubdomain 과 같은 형식으로 서브도메인을 만듦
+  @Value("${ssh.nginx-server.subdomain-prefix}")
+  private String subdomainPrefix;
+
+  private final RedisUtil redisUtil;
+  private final ProjectRepository projectRepository;
+
+  /**
+   * DB 에 있는 모든 프로젝트 라우트로 해시를 채우고 DB 에 없는 항목은 삭제
+   * <p>
+   * 게이트웨이는 주기적으로 해시 전체를 다시 읽으므로 따로 알리지 않습니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      Map<String, Object> routes = new HashMap<>();
+      projectRepository.findAllRoutes().forEach(route -> routes.put(
+          subdomainPrefix + route.deploymentName(), String.valueOf(route.nodePort())));
+
+      Set<Object> stale = redisUtil.hkeys(ROUTES_KEY);
+      stale.removeAll(routes.keySet());
+      if (!routes.isEmpty()) {
+        redisUtil.hputAll(ROUTES_KEY, routes);
+      }
+      if (!stale.isEmpty()) {
+        redisUtil.hdelete(ROUTES_KEY, stale.toArray());
+      }
+      log.info("Gateway routes backfilled: {} routes, {} stale removed", routes.size(),
+          stale.size());
+    } catch (RuntimeException e) {
+      log.warn("Failed to backfill gateway routes", e);
+    }
+  }
+
+  public void register(String subdomain, int nodePort) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      redisUtil.hset(ROUTES_KEY, subdomain, String.valueOf(nodePort));
+      redisUtil.publish(ROUTES_CHANNEL, "put:" + subdomain + ":" + nodePort);
+    } catch (RuntimeException e) {
+      // 게이트웨이가 주기적으로 전체 테이블을 다시 읽으므로 nginx 반영은 계속 진행
+      log.warn("Failed to register gateway route: {}", subdomain, e);
+    }
+  }
+
+  public void unregister(List<String> subdomains) {
+    if (!enabled || subdomains.isEmpty()) {
+      return;
+    }
+    try {
+      redisUtil.hdelete(ROUTES_KEY, subdomains.toArray());
+      subdomains.forEach(subdomain -> redisUtil.publish(ROUTES_CHANNEL, "delete:" + subdomain));
+    } catch (RuntimeException e) {
+      log.warn("Failed to unregister gateway routes: {}", subdomains, e);
+    }
+  }
+}
@@ -28,4 +28,20 @@ public class RandomUtil {
 
     return randomString.toString();
   }
+
+  /**
+   * 생성 시각 순으로 정렬되는 짧은 ID - 소문자와 숫자만 사용
+   * <p>
+   * 밀리초 타임스탬프(36진수 9자리) 뒤에 36진수 4자리 난수를 붙입니다.
+   */
+  public static String generateSortableId() {
+    String timestamp = Long.toString(System.currentTimeMillis(), 36);
+    StringBuilder id = new StringBuilder("0".repeat(Math.max(0, 9 - timestamp.length())))
+        .append(timestamp);
+
+    for (int i = 0; i < 4; i++) {
+      id.append(Character.forDigit(RANDOM.nextInt(36), 36));
+    }
+    return id.toString();
+  }
 }
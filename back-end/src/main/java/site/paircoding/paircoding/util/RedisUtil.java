@@ -1,9 +1,14 @@
 package site.paircoding.paircoding.util;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -52,6 +57,17 @@ public class RedisUtil {
     redisTemplate.opsForValue().set(key, value, timeout, TimeUnit.SECONDS);
   }
 
+  /**
+   * 키가 없을 때만 만료 시간을 설정하여 저장합니다. (SET NX EX)
+   *
+   * @param timeout 만료 시간(초 단위)
+   * @return 저장되었으면 true, 이미 키가 있으면 false
+   */
+  public boolean setIfAbsent(String key, Object value, long timeout) {
+    return Boolean.TRUE.equals(
+        redisTemplate.opsForValue().setIfAbsent(key, value, timeout, TimeUnit.SECONDS));
+  }
+
   public long getExpire(String key) {
     return redisTemplate.getExpire(key, TimeUnit.SECONDS);
   }
@@ -63,4 +79,88 @@ public class RedisUtil {
   public Set<String> keys(String pattern) {
     return redisTemplate.keys(pattern);
   }
+
+  /**
+   * 집합에 원소를 추가합니다. (SADD)
+   */
+  public void sadd(String key, Object... members) {
+    redisTemplate.opsForSet().add(key, members);
+  }
+
+  /**
+   * 집합에서 원소를 제거합니다. (SREM)
+   */
+  public void sremove(String key, Object... members) {
+    redisTemplate.opsForSet().remove(key, members);
+  }
+
+  /**
+   * 집합의 모든 원소를 가져옵니다. (SMEMBERS)
+   *
+   * @return 집합의 원소, 키가 존재하지 않으면 빈 집합
+   */
+  public Set<Object> smembers(String key) {
+    Set<Object> members = redisTemplate.opsForSet().members(key);
+    return members != null ? members : Set.of();
+  }
+
+  /**
+   * 집합의 원소 수를 가져옵니다. (SCARD)
+   */
+  public long scard(String key) {
+    Long size = redisTemplate.opsForSet().size(key);
+    return size != null ? size : 0;
+  }
+
+  /**
+   * 여러 명령을 파이프라인으로 보내 한 번의 왕복으로 실행합니다.
+   *
+   * @param commands 실행할 명령 - 명령의 반환값은 사용하지 않음
+   * @return 명령 순서대로의 결과
+   */
+  @SuppressWarnings("unchecked")
+  public List<Object> executePipelined(Consumer<RedisOperations<String, Object>> commands) {
+    return redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        commands.accept((RedisOperations<String, Object>) operations);
+        return null;
+      }
+    });
+  }
+
+  /**
+   * 해시 필드에 값을 저장합니다. (HSET)
+   */
+  public void hset(String key, String field, Object value) {
+    redisTemplate.opsForHash().put(key, field, value);
+  }
+
+  /**
+   * 여러 해시 필드에 값을 저장합니다. (HSET)
+   */
+  public void hputAll(String key, Map<String, Object> values) {
+    redisTemplate.opsForHash().putAll(key, values);
+  }
+
+  /**
+   * 해시의 모든 필드 이름을 조회합니다. (HKEYS)
+   */
+  public Set<Object> hkeys(String key) {
+    return redisTemplate.opsForHash().keys(key);
+  }
+
+  /**
+   * 해시 필드를 삭제합니다. (HDEL)
+   */
+  public void hdelete(String key, Object... fields) {
+    redisTemplate.opsForHash().delete(key, fields);
+  }
+
+  /**
+   * 채널에 메시지를 발행합니다. (PUBLISH)
+   */
+  public void publish(String channel, String message) {
+    redisTemplate.convertAndSend(channel, message);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package site.paircoding.paircoding.util;
+
+import java.util.Map;
+import site.paircoding.paircoding.entity.dto.ResourceUsageSample;
+
+/**
+ * 작업 공간 리소스 사용량 수집 방법
+ * <p>
+ * 프로젝트 수와 관계없이 한 번의 호출로 전체 작업 공간의 사용량을 가져와야 합니다.
+ */
+public interface ResourceUsageSource {
+
+  /**
+   * @return Deployment 이름 -> 사용량
+   */
+  Map<String, ResourceUsageSample> collect(long timestamp);
+}
@@ -0,0 +1,46 @@
+package site.paircoding.paircoding.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 키로 동시에 들어온 요청을 하나의 실행으로 합침 (single-flight)
+ * <p>
+ * 먼저 들어온 호출만 실제로 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과를 함께 받습니다. 실행이 끝나면 키가 제거되므로 결과를 캐시하지는
+ * 않습니다.
+ */
+public class SingleFlight<K, V> {
+
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  public V execute(K key, Supplier<V> supplier) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+    if (existing != null) {
+      try {
+        return existing.join();
+      } catch (CompletionException e) {
+        // 원래 예외를 그대로 전달해야 호출부의 예외 처리가 동작함
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+
+    try {
+      V value = supplier.get();
+      future.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+}
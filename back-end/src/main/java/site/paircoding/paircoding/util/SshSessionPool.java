@@ -0,0 +1,236 @@
+package site.paircoding.paircoding.util;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import site.paircoding.paircoding.entity.dto.ExecResult;
+
+/**
+ * SSH 세션 풀 - 연결한 세션을 닫지 않고 재사용
+ * <p>
+ * 최대 size 개의 세션을 유지하며, 빌려줄 때 연결이 끊긴 세션은 버리고 다시 연결합니다. 쉬고 있는 세션은 {@link #keepAlive()} 로 주기적으로
+ * 확인합니다.
+ */
+@Slf4j
+public class SshSessionPool {
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+  private static final int SERVER_ALIVE_INTERVAL_MILLIS = 30000;
+  private static final int MAX_OUTPUT_BYTES = 64 * 1024;
+
+  private final String host;
+  private final int port;
+  private final String user;
+  private final String password;
+  private final long borrowTimeoutMillis;
+  private final long commandTimeoutMillis;
+
+  private final BlockingQueue<Session> idleSessions = new LinkedBlockingQueue<>();
+  private final Semaphore permits;
+
+  public SshSessionPool(String host, int port, String user, String password, int size,
+      long borrowTimeoutMillis, long commandTimeoutMillis) {
+    this.host = host;
+    this.port = port;
+    this.user = user;
+    this.password = password;
+    this.borrowTimeoutMillis = borrowTimeoutMillis;
+    this.commandTimeoutMillis = commandTimeoutMillis;
+    this.permits = new Semaphore(size);
+  }
+
+  /**
+   * 명령을 실행하고 종료 코드 확인 - 완료될 때까지 기다림
+   *
+   * @return 표준 출력
+   * @throws SshCommandException 종료 코드가 0 이 아닌 경우
+   * @throws TimeoutException    command-timeout 안에 끝나지 않은 경우
+   */
+  public String execute(String command) throws Exception {
+    return execute(command, null);
+  }
+
+  /**
+   * 명령의 표준 입력으로 내용을 흘려 보내며 실행 - 완료될 때까지 기다림
+   * <p>
+   * 명령 인자는 커널의 인자 길이 제한(MAX_ARG_STRLEN, 128KiB)을 받으므로 큰 파일 내용은 인자 대신 표준 입력으로 전달합니다.
+   *
+   * @param stdin 표준 입력으로 보낼 내용 - 다 보낸 뒤 EOF 를 보냄, null 이면 입력 없음
+   * @return 표준 출력
+   * @throws SshCommandException 종료 코드가 0 이 아닌 경우
+   * @throws TimeoutException    command-timeout 안에 끝나지 않은 경우
+   */
+  public String execute(String command, String stdin) throws Exception {
+    ExecResult result;
+    try {
+      result = executeAsync(command, stdin).get();
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception cause ? cause : e;
+    }
+
+    if (!result.isSuccess()) {
+      throw new SshCommandException(result.exitCode(), result.stderr().trim());
+    }
+    return result.stdout();
+  }
+
+  /**
+   * 명령을 하나의 채널에서 실행
+   * <p>
+   * 채널이 닫히면(원격 명령 종료) 바로 완료되는 future 를 돌려주며, 기다리는 동안 스레드를 점유하지 않습니다. command-timeout 이 지나면
+   * 채널을 끊고 {@link TimeoutException} 으로 완료됩니다. 세션 문제로 채널을 열지 못하면 새 세션으로 한 번 더 시도합니다.
+   *
+   * @return 종료 코드와 출력 - 종료 코드가 0 이 아니어도 정상 완료
+   */
+  public CompletableFuture<ExecResult> executeAsync(String command) throws Exception {
+    return executeAsync(command, null);
+  }
+
+  /**
+   * 표준 입력을 함께 보내는 {@link #executeAsync(String)}
+   *
+   * @param stdin 표준 입력으로 보낼 내용 - null 이면 입력 없음
+   */
+  public CompletableFuture<ExecResult> executeAsync(String command, String stdin)
+      throws Exception {
+    try {
+      return start(command, stdin);
+    } catch (JSchException e) {
+      log.info("SSH session broken, retrying with a new session: {}", e.getMessage());
+      return start(command, stdin);
+    }
+  }
+
+  private CompletableFuture<ExecResult> start(String command, String stdin) throws Exception {
+    Session session = borrow();
+    ChannelExec channel = null;
+    try {
+      channel = (ChannelExec) session.openChannel("exec");
+      CompletableFuture<ExecResult> result = new CompletableFuture<>();
+      long startedAt = System.nanoTime();
+
+      ChannelExec exec = channel;
+      BoundedOutputStream stdout = new BoundedOutputStream(MAX_OUTPUT_BYTES);
+      // JSch 는 원격에서 채널을 닫을 때(종료 코드를 받은 뒤) 표준 오류 스트림을 닫으므로 이를 완료 신호로 사용
+      BoundedOutputStream stderr = new BoundedOutputStream(MAX_OUTPUT_BYTES) {
+        @Override
+        public void close() {
+          result.complete(new ExecResult(exec.getExitStatus(), stdout.toString(), toString(),
+              stdout.isTruncated() || isTruncated(),
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+        }
+      };
+      channel.setCommand(command);
+      // 입력 스트림을 다 읽으면 JSch 가 EOF 를 보내므로 cat 같은 명령이 정상 종료됨
+      channel.setInputStream(stdin == null ? null
+          : new ByteArrayInputStream(stdin.getBytes(StandardCharsets.UTF_8)));
+      channel.setOutputStream(stdout);
+      channel.setErrStream(stderr);
+      channel.connect(CONNECT_TIMEOUT_MILLIS);
+
+      return result
+          .orTimeout(commandTimeoutMillis, TimeUnit.MILLISECONDS)
+          .whenComplete((r, e) -> {
+            exec.disconnect();
+            release(session, e == null);
+          });
+    } catch (Exception e) {
+      if (channel != null) {
+        channel.disconnect();
+      }
+      release(session, false);
+      throw e;
+    }
+  }
+
+  /**
+   * 쉬고 있는 세션에 keep-alive 를 보내고, 응답하지 않는 세션은 정리
+   */
+  public void keepAlive() {
+    List<Session> sessions = new ArrayList<>();
+    idleSessions.drainTo(sessions);
+    for (Session session : sessions) {
+      try {
+        session.sendKeepAliveMsg();
+        idleSessions.offer(session);
+      } catch (Exception e) {
+        log.info("Dropping broken SSH session: {}", e.getMessage());
+        session.disconnect();
+      }
+    }
+  }
+
+  public void close() {
+    List<Session> sessions = new ArrayList<>();
+    idleSessions.drainTo(sessions);
+    sessions.forEach(Session::disconnect);
+  }
+
+  private Session borrow() throws Exception {
+    if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+      throw new IllegalStateException("No SSH session available: " + host);
+    }
+
+    try {
+      Session session;
+      while ((session = idleSessions.poll()) != null) {
+        if (session.isConnected()) {
+          return session;
+        }
+        session.disconnect();
+      }
+      return connect();
+    } catch (Exception e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void release(Session session, boolean healthy) {
+    if (healthy && session.isConnected()) {
+      idleSessions.offer(session);
+    } else {
+      session.disconnect();
+    }
+    permits.release();
+  }
+
+  private Session connect() throws JSchException {
+    Session session = new JSch().getSession(user, host, port);
+    session.setPassword(password);
+    session.setConfig("StrictHostKeyChecking", "no");
+    session.setServerAliveInterval(SERVER_ALIVE_INTERVAL_MILLIS);
+    session.connect(CONNECT_TIMEOUT_MILLIS);
+    return session;
+  }
+
+  /**
+   * 원격 명령이 0 이 아닌 종료 코드로 끝남
+   */
+  public static class SshCommandException extends Exception {
+
+    private final int exitStatus;
+
+    public SshCommandException(int exitStatus, String error) {
+      super("exit " + exitStatus + ": " + error);
+      this.exitStatus = exitStatus;
+    }
+
+    public int getExitStatus() {
+      return exitStatus;
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package site.paircoding.paircoding.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import site.paircoding.paircoding.global.exception.WebsocketException;
+
+/**
+ * 공동 편집용 텍스트 연산 (OT)
+ * <p>
+ * 클라이언트와 주고받는 형식은 ot.js 와 동일하게 숫자/문자열 배열을 사용합니다.
+ * <ul>
+ *   <li>양수: 해당 길이만큼 유지 (retain)</li>
+ *   <li>음수: 해당 길이만큼 삭제 (delete)</li>
+ *   <li>문자열: 현재 위치에 삽입 (insert)</li>
+ * </ul>
+ * 예) {@code [3, "ab", -2, 5]}
+ */
+public class TextOperation {
+
+  private final List<Object> ops = new ArrayList<>();
+  private int baseLength;
+  private int targetLength;
+
+  /**
+   * 클라이언트가 보낸 배열을 연산으로 변환
+   */
+  public static TextOperation from(List<?> components) {
+    if (components == null) {
+      throw new WebsocketException("Invalid operation");
+    }
+
+    TextOperation operation = new TextOperation();
+    for (Object component : components) {
+      if (component instanceof String text) {
+        operation.insert(text);
+      } else if (component instanceof Number number && lengthOf(number) > 0) {
+        operation.retain(lengthOf(number));
+      } else if (component instanceof Number number && lengthOf(number) < 0) {
+        operation.delete(-lengthOf(number));
+      } else {
+        throw new WebsocketException("Invalid operation");
+      }
+    }
+    return operation;
+  }
+
+  // 정수가 아니거나 int 범위를 벗어난 길이는 잘라내지 않고 0 으로 취급해 거절되도록 함
+  private static int lengthOf(Number number) {
+    boolean integral = number instanceof Integer || number instanceof Long
+        || number instanceof Short || number instanceof Byte;
+    long value = number.longValue();
+    return integral && value > Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : 0;
+  }
+
+  /**
+   * 기존 문서를 새 문서로 바꾸는 최소 연산 생성 (공통 접두사/접미사는 유지)
+   */
+  public static TextOperation diff(String before, String after) {
+    int prefix = 0;
+    int maxPrefix = Math.min(before.length(), after.length());
+    while (prefix < maxPrefix && before.charAt(prefix) == after.charAt(prefix)) {
+      prefix++;
+    }
+
+    int suffix = 0;
+    int maxSuffix = maxPrefix - prefix;
+    while (suffix < maxSuffix
+        && before.charAt(before.length() - 1 - suffix) == after.charAt(after.length() - 1 - suffix)) {
+      suffix++;
+    }
+
+    return new TextOperation()
+        .retain(prefix)
+        .delete(before.length() - prefix - suffix)
+        .insert(after.substring(prefix, after.length() - suffix))
+        .retain(suffix);
+  }
+
+  public List<Object> toList() {
+    return Collections.unmodifiableList(ops);
+  }
+
+  public int getBaseLength() {
+    return baseLength;
+  }
+
+  public int getTargetLength() {
+    return targetLength;
+  }
+
+  public boolean isNoop() {
+    return ops.isEmpty() || (ops.size() == 1 && isRetain(ops.get(0)));
+  }
+
+  public TextOperation retain(int n) {
+    if (n == 0) {
+      return this;
+    }
+    baseLength += n;
+    targetLength += n;
+
+    if (!ops.isEmpty() && isRetain(ops.get(ops.size() - 1))) {
+      ops.set(ops.size() - 1, (Integer) ops.get(ops.size() - 1) + n);
+    } else {
+      ops.add(n);
+    }
+    return this;
+  }
+
+  public TextOperation insert(String text) {
+    if (text.isEmpty()) {
+      return this;
+    }
+    targetLength += text.length();
+
+    int last = ops.size() - 1;
+    if (last >= 0 && isInsert(ops.get(last))) {
+      // 연속된 삽입은 하나로 합침
+      ops.set(last, ops.get(last) + text);
+    } else if (last >= 0 && isDelete(ops.get(last))) {
+      // 삽입은 항상 삭제보다 앞에 오도록 정규화
+      if (last > 0 && isInsert(ops.get(last - 1))) {
+        ops.set(last - 1, ops.get(last - 1) + text);
+      } else {
+        ops.add(last, text);
+      }
+    } else {
+      ops.add(text);
+    }
+    return this;
+  }
+
+  public TextOperation delete(int n) {
+    if (n == 0) {
+      return this;
+    }
+    baseLength += n;
+
+    if (!ops.isEmpty() && isDelete(ops.get(ops.size() - 1))) {
+      ops.set(ops.size() - 1, (Integer) ops.get(ops.size() - 1) - n);
+    } else {
+      ops.add(-n);
+    }
+    return this;
+  }
+
+  /**
+   * 문서에 연산 적용
+   */
+  public String apply(String document) {
+    if (document.length() != baseLength) {
+      throw new WebsocketException("Operation does not match document length");
+    }
+
+    StringBuilder result = new StringBuilder(targetLength);
+    int index = 0;
+    for (Object op : ops) {
+      if (isRetain(op)) {
+        result.append(document, index, index + (Integer) op);
+        index += (Integer) op;
+      } else if (isInsert(op)) {
+        result.append((String) op);
+      } else {
+        index -= (Integer) op;
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * 같은 문서에 동시에 적용된 두 연산 a, b 를 변환
+   * <p>
+   * 반환값 [a', b'] 는 apply(apply(doc, a), b') == apply(apply(doc, b), a') 를 만족합니다.
+   */
+  public static TextOperation[] transform(TextOperation a, TextOperation b) {
+    if (a.baseLength != b.baseLength) {
+      throw new WebsocketException("Operations must have the same base length");
+    }
+
+    TextOperation aPrime = new TextOperation();
+    TextOperation bPrime = new TextOperation();
+    List<Object> opsA = a.ops;
+    List<Object> opsB = b.ops;
+    int i = 0;
+    int j = 0;
+    Object opA = i < opsA.size() ? opsA.get(i++) : null;
+    Object opB = j < opsB.size() ? opsB.get(j++) : null;
+
+    while (opA != null || opB != null) {
+      if (opA != null && isInsert(opA)) {
+        aPrime.insert((String) opA);
+        bPrime.retain(((String) opA).length());
+        opA = i < opsA.size() ? opsA.get(i++) : null;
+        continue;
+      }
+      if (opB != null && isInsert(opB)) {
+        aPrime.retain(((String) opB).length());
+        bPrime.insert((String) opB);
+        opB = j < opsB.size() ? opsB.get(j++) : null;
+        continue;
+      }
+      if (opA == null || opB == null) {
+        throw new WebsocketException("Operations are not compatible");
+      }
+
+      int lenA = (Integer) opA;
+      int lenB = (Integer) opB;
+      int min;
+      if (lenA > 0 && lenB > 0) {
+        // retain / retain
+        min = Math.min(lenA, lenB);
+        aPrime.retain(min);
+        bPrime.retain(min);
+        lenA -= min;
+        lenB -= min;
+      } else if (lenA < 0 && lenB < 0) {
+        // delete / delete - 이미 양쪽에서 삭제된 구간
+        min = Math.min(-lenA, -lenB);
+        lenA += min;
+        lenB += min;
+      } else if (lenA < 0) {
+        // delete / retain
+        min = Math.min(-lenA, lenB);
+        aPrime.delete(min);
+        lenA += min;
+        lenB -= min;
+      } else {
+        // retain / delete
+        min = Math.min(lenA, -lenB);
+        bPrime.delete(min);
+        lenA -= min;
+        lenB += min;
+      }
+
+      opA = lenA != 0 ? (Object) lenA : (i < opsA.size() ? opsA.get(i++) : null);
+      opB = lenB != 0 ? (Object) lenB : (j < opsB.size() ? opsB.get(j++) : null);
+    }
+
+    return new TextOperation[]{aPrime, bPrime};
+  }
+
+  private static boolean isRetain(Object op) {
+    return op instanceof Integer n && n > 0;
+  }
+
+  private static boolean isDelete(Object op) {
+    return op instanceof Integer n && n < 0;
+  }
+
+  private static boolean isInsert(Object op) {
+    return op instanceof String;
+  }
+}
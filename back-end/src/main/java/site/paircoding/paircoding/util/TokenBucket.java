@@ -0,0 +1,45 @@
+package site.paircoding.paircoding.util;
+
+/**
+ * 토큰 버킷 - 초당 permitsPerSecond 개씩 채워지고 최대 burst 개까지 쌓임
+ * <p>
+ * 토큰이 없으면 다음 토큰까지 maxWait 이내일 때만 미리 예약하고 기다립니다. 그보다 오래 기다려야 하면 바로 거절합니다.
+ */
+public class TokenBucket {
+
+  private final double permitsPerMilli;
+  private final double burst;
+  private double tokens;
+  private long refilledAt;
+
+  public TokenBucket(double permitsPerSecond, int burst) {
+    this.permitsPerMilli = permitsPerSecond / 1000;
+    this.burst = burst;
+    this.tokens = burst;
+    this.refilledAt = System.currentTimeMillis();
+  }
+
+  /**
+   * @return 토큰을 얻었으면 true, maxWaitMillis 안에 얻을 수 없으면 false
+   */
+  public boolean tryAcquire(long maxWaitMillis) throws InterruptedException {
+    long waitMillis;
+    synchronized (this) {
+      long now = System.currentTimeMillis();
+      tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerMilli);
+      refilledAt = now;
+
+      // 음수 토큰은 앞서 예약된 요청 수
+      waitMillis = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerMilli);
+      if (waitMillis > maxWaitMillis) {
+        return false;
+      }
+      tokens -= 1;
+    }
+
+    if (waitMillis > 0) {
+      Thread.sleep(waitMillis);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,72 @@
+package site.paircoding.paircoding.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import site.paircoding.paircoding.entity.dto.ResourceUsageSample;
+
+/**
+ * 고정 크기 링 버퍼 시계열 - 가득 차면 가장 오래된 샘플을 덮어씀
+ */
+public class UsageTimeSeries {
+
+  private final ResourceUsageSample[] samples;
+  private int next;
+  private int size;
+
+  public UsageTimeSeries(int capacity) {
+    this.samples = new ResourceUsageSample[capacity];
+  }
+
+  public synchronized void add(ResourceUsageSample sample) {
+    samples[next] = sample;
+    next = (next + 1) % samples.length;
+    size = Math.min(size + 1, samples.length);
+  }
+
+  public synchronized ResourceUsageSample latest() {
+    return size == 0 ? null : samples[(next - 1 + samples.length) % samples.length];
+  }
+
+  /**
+   * 시간순 샘플 조회 - 샘플이 maxPoints 보다 많으면 연속된 샘플을 평균내어 줄임
+   */
+  public List<ResourceUsageSample> snapshot(int maxPoints) {
+    List<ResourceUsageSample> ordered = new ArrayList<>(size);
+    synchronized (this) {
+      int start = (next - size + samples.length) % samples.length;
+      for (int i = 0; i < size; i++) {
+        ordered.add(samples[(start + i) % samples.length]);
+      }
+    }
+
+    if (maxPoints <= 0 || ordered.size() <= maxPoints) {
+      return ordered;
+    }
+
+    int bucketSize = (ordered.size() + maxPoints - 1) / maxPoints;
+    List<ResourceUsageSample> downsampled = new ArrayList<>(maxPoints);
+    for (int from = 0; from < ordered.size(); from += bucketSize) {
+      downsampled.add(average(ordered.subList(from, Math.min(from + bucketSize, ordered.size()))));
+    }
+    return downsampled;
+  }
+
+  // 버킷의 마지막 시각을 대표 시각으로 사용
+  private ResourceUsageSample average(List<ResourceUsageSample> bucket) {
+    long cpu = 0;
+    long memory = 0;
+    long storage = 0;
+    int storageCount = 0;
+    for (ResourceUsageSample sample : bucket) {
+      cpu += sample.cpuMillicores();
+      memory += sample.memoryBytes();
+      if (sample.storageBytes() != null) {
+        storage += sample.storageBytes();
+        storageCount++;
+      }
+    }
+    return new ResourceUsageSample(bucket.get(bucket.size() - 1).timestamp(),
+        cpu / bucket.size(), memory / bucket.size(),
+        storageCount == 0 ? null : storage / storageCount);
+  }
+}
@@ -0,0 +1,94 @@
+package site.paircoding.paircoding.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import site.paircoding.paircoding.repository.ProjectRepository;
+import site.paircoding.paircoding.util.FakeResourceUsageSource;
+import site.paircoding.paircoding.util.UsageTimeSeries;
+
+class ResourceUsageServiceTest {
+
+  private final FakeResourceUsageSource source = new FakeResourceUsageSource();
+  private final ProjectStatusTracker projectStatusTracker = mock(ProjectStatusTracker.class);
+  private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+  private ResourceUsageService resourceUsageService;
+
+  @BeforeEach
+  void setUp() {
+    resourceUsageService = new ResourceUsageService(source, projectStatusTracker,
+        mock(ProjectRepository.class), messagingTemplate, new ObjectMapper());
+    ReflectionTestUtils.setField(resourceUsageService, "capacity", 4);
+    ReflectionTestUtils.setField(resourceUsageService, "liveFeedEnabled", true);
+
+    when(projectStatusTracker.getProjectId("deployment-1")).thenReturn(1);
+    when(projectStatusTracker.getGroupId(1)).thenReturn("10");
+  }
+
+  @Test
+  void recordsSamplesOfTrackedProjectsOnly() {
+    source.put("deployment-1", 100, 1000, null).put("warm-pool", 50, 500, null);
+
+    resourceUsageService.sample();
+    resourceUsageService.sample();
+
+    assertThat(series()).containsOnlyKeys(1);
+    assertThat(series().get(1).snapshot(0)).hasSize(2);
+    verify(messagingTemplate, times(2))
+        .convertAndSend(eq("/sub/project-usage/groups/10"), anyString());
+  }
+
+  @Test
+  void skipsProjectsDeletedDuringSampling() {
+    // Deployment 는 아직 추적되지만 프로젝트 상태는 이미 지워진 경우
+    when(projectStatusTracker.getProjectId("deployment-2")).thenReturn(2);
+    source.put("deployment-1", 100, 1000, null).put("deployment-2", 200, 2000, null);
+
+    resourceUsageService.sample();
+
+    assertThat(series()).containsOnlyKeys(1);
+    verify(messagingTemplate).convertAndSend(eq("/sub/project-usage/groups/10"), anyString());
+    verify(messagingTemplate, never())
+        .convertAndSend(eq("/sub/project-usage/groups/null"), anyString());
+  }
+
+  @Test
+  void dropsSeriesOfDeletedProjects() {
+    source.put("deployment-1", 100, 1000, null);
+    resourceUsageService.sample();
+
+    when(projectStatusTracker.getGroupId(1)).thenReturn(null);
+    source.remove("deployment-1");
+    resourceUsageService.sample();
+
+    assertThat(series()).isEmpty();
+  }
+
+  @Test
+  void ignoresCollectFailure() {
+    source.failWith(new IllegalStateException("metrics-server unavailable"));
+
+    assertThatNoException().isThrownBy(resourceUsageService::sample);
+    assertThat(series()).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Integer, UsageTimeSeries> series() {
+    return (Map<Integer, UsageTimeSeries>) ReflectionTestUtils.getField(resourceUsageService,
+        "series");
+  }
+}
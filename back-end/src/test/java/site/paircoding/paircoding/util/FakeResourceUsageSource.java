@@ -0,0 +1,45 @@
+package site.paircoding.paircoding.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import site.paircoding.paircoding.entity.dto.ResourceUsageSample;
+
+/**
+ * 테스트용 메모리 사용량 수집기 - 등록한 사용량을 수집 시각만 바꿔 돌려줌
+ */
+public class FakeResourceUsageSource implements ResourceUsageSource {
+
+  private final Map<String, ResourceUsageSample> usage = new HashMap<>();
+  private RuntimeException failure;
+
+  public FakeResourceUsageSource put(String deploymentName, long cpuMillicores,
+      long memoryBytes, Long storageBytes) {
+    usage.put(deploymentName,
+        new ResourceUsageSample(0, cpuMillicores, memoryBytes, storageBytes));
+    return this;
+  }
+
+  public FakeResourceUsageSource remove(String deploymentName) {
+    usage.remove(deploymentName);
+    return this;
+  }
+
+  /**
+   * 다음 수집부터 예외를 던지도록 설정 - null 이면 정상 수집
+   */
+  public void failWith(RuntimeException failure) {
+    this.failure = failure;
+  }
+
+  @Override
+  public Map<String, ResourceUsageSample> collect(long timestamp) {
+    if (failure != null) {
+      throw failure;
+    }
+    Map<String, ResourceUsageSample> collected = new HashMap<>();
+    usage.forEach((deploymentName, sample) -> collected.put(deploymentName,
+        new ResourceUsageSample(timestamp, sample.cpuMillicores(), sample.memoryBytes(),
+            sample.storageBytes())));
+    return collected;
+  }
+}
@@ -0,0 +1,74 @@
+package site.paircoding.paircoding.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@EnableKubernetesMockClient(crud = true)
+class ImagePrePullerTest {
+
+  private static final String NAMESPACE = "test";
+
+  KubernetesClient client;
+
+  private ImagePrePuller imagePrePuller;
+
+  @BeforeEach
+  void setUp() {
+    imagePrePuller = new ImagePrePuller(client);
+    ReflectionTestUtils.setField(imagePrePuller, "imageRegistry", "registry.example.com/pading");
+    ReflectionTestUtils.setField(imagePrePuller, "namespace", NAMESPACE);
+    ReflectionTestUtils.setField(imagePrePuller, "ENV_LABEL", "test");
+  }
+
+  @Test
+  void createsInitContainerPerTag() {
+    assertThat(imagePrePuller.apply(List.of("java-17", "python3.11", "java-17"))).isTrue();
+
+    DaemonSet daemonSet = getDaemonSet();
+    List<Container> initContainers = daemonSet.getSpec().getTemplate().getSpec()
+        .getInitContainers();
+    assertThat(initContainers).extracting(Container::getImage).containsExactly(
+        "registry.example.com/pading:java-17", "registry.example.com/pading:python3.11");
+    assertThat(initContainers).extracting(Container::getName)
+        .allMatch(name -> name.matches("[a-z0-9]([-a-z0-9]*[a-z0-9])?"));
+    assertThat(daemonSet.getSpec().getTemplate().getSpec().getContainers()).hasSize(1);
+  }
+
+  @Test
+  void skipsUpdateWhenCatalogIsUnchanged() {
+    imagePrePuller.apply(List.of("java-17", "python3.11"));
+    String resourceVersion = getDaemonSet().getMetadata().getResourceVersion();
+
+    assertThat(imagePrePuller.apply(List.of("python3.11", "java-17"))).isFalse();
+    assertThat(getDaemonSet().getMetadata().getResourceVersion()).isEqualTo(resourceVersion);
+  }
+
+  @Test
+  void updatesWhenCatalogChanges() {
+    imagePrePuller.apply(List.of("java-17"));
+    String hash = getDaemonSet().getMetadata().getAnnotations()
+        .get(ImagePrePuller.IMAGE_HASH_ANNOTATION);
+
+    assertThat(imagePrePuller.apply(List.of("java-17", "node-20"))).isTrue();
+
+    DaemonSet daemonSet = getDaemonSet();
+    assertThat(daemonSet.getMetadata().getAnnotations().get(ImagePrePuller.IMAGE_HASH_ANNOTATION))
+        .isNotEqualTo(hash);
+    assertThat(daemonSet.getSpec().getTemplate().getSpec().getInitContainers()).hasSize(2);
+  }
+
+  private DaemonSet getDaemonSet() {
+    return client.apps().daemonSets()
+        .inNamespace(NAMESPACE)
+        .withName(ImagePrePuller.DAEMON_SET_NAME)
+        .get();
+  }
+}
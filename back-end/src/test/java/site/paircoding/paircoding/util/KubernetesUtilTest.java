@@ -0,0 +1,90 @@
+package site.paircoding.paircoding.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fabric8.kubernetes.api.model.PersistentVolumeBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@EnableKubernetesMockClient(crud = true)
+class KubernetesUtilTest {
+
+  private static final String NAMESPACE = "test";
+
+  KubernetesClient client;
+
+  private KubernetesUtil kubernetesUtil;
+
+  @BeforeEach
+  void setUp() {
+    KubernetesGateway kubernetesGateway = new KubernetesGateway(new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(kubernetesGateway, "readPerSecond", 1000);
+    ReflectionTestUtils.setField(kubernetesGateway, "writePerSecond", 1000);
+    ReflectionTestUtils.setField(kubernetesGateway, "deletePerSecond", 1000);
+    ReflectionTestUtils.setField(kubernetesGateway, "execPerSecond", 1000);
+    ReflectionTestUtils.setField(kubernetesGateway, "burstFactor", 2);
+    ReflectionTestUtils.setField(kubernetesGateway, "maxWaitMillis", 500);
+    ReflectionTestUtils.setField(kubernetesGateway, "maxConcurrentExec", 1);
+    kubernetesGateway.init();
+
+    kubernetesUtil = new KubernetesUtil(client, new ThreadPoolTaskExecutor(),
+        new ThreadPoolTaskExecutor(), kubernetesGateway);
+    ReflectionTestUtils.setField(kubernetesUtil, "namespace", NAMESPACE);
+    ReflectionTestUtils.setField(kubernetesUtil, "ENV_LABEL", "dev");
+  }
+
+  @Test
+  void groupSelectorIncludesEnvironment() {
+    assertThat(kubernetesUtil.groupSelector(7))
+        .isEqualTo(Map.of("env", "dev", "groupId", "7"));
+  }
+
+  @Test
+  void deletesOnlyGroupResourcesOfOwnEnvironment() {
+    createResources("p-dev-7", "dev", "7");
+    createResources("p-prod-7", "prod", "7");
+    createResources("p-dev-8", "dev", "8");
+
+    kubernetesUtil.deleteGroupResources(7);
+
+    assertThat(client.apps().deployments().inNamespace(NAMESPACE).list().getItems())
+        .extracting(deployment -> deployment.getMetadata().getName())
+        .containsExactlyInAnyOrder("p-prod-7", "p-dev-8");
+    assertThat(client.services().inNamespace(NAMESPACE).list().getItems()).hasSize(2);
+    assertThat(client.persistentVolumeClaims().inNamespace(NAMESPACE).list().getItems())
+        .hasSize(2);
+    // PV 는 클러스터 범위라 다른 환경의 같은 그룹 ID 볼륨이 남아 있어야 함
+    assertThat(client.persistentVolumes().list().getItems())
+        .extracting(volume -> volume.getMetadata().getName())
+        .containsExactlyInAnyOrder("p-prod-7", "p-dev-8");
+  }
+
+  private void createResources(String name, String env, String groupId) {
+    Map<String, String> labels = Map.of("env", env, "groupId", groupId,
+        "deploymentName", name);
+    Deployment deployment = new DeploymentBuilder()
+        .withNewMetadata().withName(name).withLabels(labels).endMetadata()
+        .build();
+    client.apps().deployments().inNamespace(NAMESPACE).resource(deployment).create();
+    client.services().inNamespace(NAMESPACE).resource(new ServiceBuilder()
+        .withNewMetadata().withName(name).withLabels(labels).endMetadata()
+        .build()).create();
+    client.persistentVolumeClaims().inNamespace(NAMESPACE).resource(
+        new PersistentVolumeClaimBuilder()
+            .withNewMetadata().withName(name).withLabels(labels).endMetadata()
+            .build()).create();
+    client.persistentVolumes().resource(new PersistentVolumeBuilder()
+        .withNewMetadata().withName(name).withLabels(labels).endMetadata()
+        .build()).create();
+  }
+}
@@ -0,0 +1,62 @@
+package site.paircoding.paircoding.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NginxRouteMapGeneratorTest {
+
+  private final NginxRouteMapGenerator generator =
+      new NginxRouteMapGenerator("pair-coding.site", "10.0.0.1");
+
+  @Test
+  void generatesSortedMapEntries() {
+    Map<String, Integer> routes = new LinkedHashMap<>();
+    routes.put("project-p-b", 30002);
+    routes.put("project-p-a", 30001);
+
+    String map = generator.generateRouteMap(routes);
+
+    assertThat(map).contains("map $host " + NginxRouteMapGenerator.PORT_VARIABLE + " {");
+    assertThat(map).contains("default 0;");
+    assertThat(map.indexOf("project-p-a.pair-coding.site 30001;"))
+        .isPositive()
+        .isLessThan(map.indexOf("project-p-b.pair-coding.site 30002;"));
+  }
+
+  @Test
+  void generatesSameContentForSameRoutes() {
+    Map<String, Integer> first = new LinkedHashMap<>();
+    first.put("project-p-a", 30001);
+    first.put("project-p-b", 30002);
+    Map<String, Integer> second = new LinkedHashMap<>();
+    second.put("project-p-b", 30002);
+    second.put("project-p-a", 30001);
+
+    assertThat(generator.generateRouteMap(first)).isEqualTo(generator.generateRouteMap(second));
+  }
+
+  @Test
+  void generatesEmptyMap() {
+    assertThat(generator.generateRouteMap(Map.of())).doesNotContain("pair-coding.site");
+  }
+
+  @Test
+  void rejectsUnsafeHostNames() {
+    assertThatThrownBy(() -> generator.generateRouteMap(Map.of("a'; rm -rf /", 30001)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void serverBlockIncludesMapAndUsesWildcard() {
+    String serverBlock = generator.generateServerBlock("/etc/nginx/routes.map");
+
+    assertThat(serverBlock).contains("include /etc/nginx/routes.map;");
+    assertThat(serverBlock).contains("server_name *.pair-coding.site;");
+    assertThat(serverBlock).contains(
+        "proxy_pass http://10.0.0.1:" + NginxRouteMapGenerator.PORT_VARIABLE + ";");
+  }
+}
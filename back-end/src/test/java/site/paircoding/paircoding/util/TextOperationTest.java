@@ -0,0 +1,151 @@
+package site.paircoding.paircoding.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import site.paircoding.paircoding.global.exception.WebsocketException;
+
+class TextOperationTest {
+
+  @Test
+  void appliesRetainInsertAndDelete() {
+    TextOperation operation = TextOperation.from(List.of(2, "XY", -2, 1));
+
+    assertThat(operation.getBaseLength()).isEqualTo(5);
+    assertThat(operation.getTargetLength()).isEqualTo(5);
+    assertThat(operation.apply("abcde")).isEqualTo("abXYe");
+  }
+
+  @Test
+  void normalizesInsertBeforeDelete() {
+    TextOperation operation = new TextOperation().retain(1).delete(2).insert("X").insert("Y");
+
+    assertThat(operation.toList()).containsExactly(1, "XY", -2);
+  }
+
+  @Test
+  void mergesAdjacentComponents() {
+    TextOperation operation = new TextOperation().retain(1).retain(2).delete(1).delete(1);
+
+    assertThat(operation.toList()).containsExactly(3, -2);
+  }
+
+  @Test
+  void rejectsOperationForDifferentLength() {
+    TextOperation operation = new TextOperation().retain(3);
+
+    assertThatThrownBy(() -> operation.apply("ab")).isInstanceOf(WebsocketException.class);
+  }
+
+  @Test
+  void rejectsInvalidComponents() {
+    assertThatThrownBy(() -> TextOperation.from(List.of(0)))
+        .isInstanceOf(WebsocketException.class);
+    assertThatThrownBy(() -> TextOperation.from(null)).isInstanceOf(WebsocketException.class);
+  }
+
+  @Test
+  void rejectsNonIntegerLengths() {
+    assertThatThrownBy(() -> TextOperation.from(List.of(1.5)))
+        .isInstanceOf(WebsocketException.class);
+    assertThatThrownBy(() -> TextOperation.from(List.of(-1.5)))
+        .isInstanceOf(WebsocketException.class);
+    assertThatThrownBy(() -> TextOperation.from(List.of(1L << 32)))
+        .isInstanceOf(WebsocketException.class);
+    assertThat(TextOperation.from(List.of(2L, "x", -1)).toList()).containsExactly(2, "x", -1);
+  }
+
+  @Test
+  void diffRoundTrips() {
+    String[][] cases = {
+        {"", ""},
+        {"", "abc"},
+        {"abc", ""},
+        {"hello world", "hello brave world"},
+        {"aaaa", "aa"},
+        {"abcabc", "abc"},
+        {"same", "same"},
+    };
+
+    for (String[] pair : cases) {
+      TextOperation operation = TextOperation.diff(pair[0], pair[1]);
+      assertThat(operation.apply(pair[0])).isEqualTo(pair[1]);
+    }
+    assertThat(TextOperation.diff("same", "same").isNoop()).isTrue();
+  }
+
+  @Test
+  void insertInsertAtSamePositionPutsFirstOperationFirst() {
+    TextOperation a = new TextOperation().retain(1).insert("X").retain(1);
+    TextOperation b = new TextOperation().retain(1).insert("Y").retain(1);
+
+    TextOperation[] transformed = TextOperation.transform(a, b);
+
+    assertThat(transformed[1].apply(a.apply("ab"))).isEqualTo("aXYb");
+    assertThat(transformed[0].apply(b.apply("ab"))).isEqualTo("aXYb");
+  }
+
+  @Test
+  void overlappingDeletesRemoveRangeOnce() {
+    TextOperation a = new TextOperation().retain(1).delete(3).retain(2);
+    TextOperation b = new TextOperation().retain(2).delete(3).retain(1);
+
+    TextOperation[] transformed = TextOperation.transform(a, b);
+
+    assertThat(transformed[1].apply(a.apply("abcdef"))).isEqualTo("af");
+    assertThat(transformed[0].apply(b.apply("abcdef"))).isEqualTo("af");
+  }
+
+  @Test
+  void rejectsTransformWithDifferentBaseLength() {
+    assertThatThrownBy(() -> TextOperation.transform(new TextOperation().retain(1),
+        new TextOperation().retain(2))).isInstanceOf(WebsocketException.class);
+  }
+
+  @Test
+  void transformConverges() {
+    Random random = new Random(42);
+    for (int i = 0; i < 500; i++) {
+      String document = randomText(random, random.nextInt(20));
+      TextOperation a = randomOperation(random, document);
+      TextOperation b = randomOperation(random, document);
+
+      TextOperation[] transformed = TextOperation.transform(a, b);
+
+      assertThat(transformed[1].apply(a.apply(document)))
+          .isEqualTo(transformed[0].apply(b.apply(document)));
+    }
+  }
+
+  private TextOperation randomOperation(Random random, String document) {
+    TextOperation operation = new TextOperation();
+    int index = 0;
+    while (index < document.length()) {
+      int length = 1 + random.nextInt(document.length() - index);
+      switch (random.nextInt(3)) {
+        case 0 -> operation.retain(length);
+        case 1 -> operation.delete(length);
+        default -> {
+          operation.insert(randomText(random, 1 + random.nextInt(3)));
+          continue;
+        }
+      }
+      index += length;
+    }
+    if (random.nextBoolean()) {
+      operation.insert(randomText(random, 1 + random.nextInt(3)));
+    }
+    return operation;
+  }
+
+  private String randomText(Random random, int length) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      text.append((char) ('a' + random.nextInt(4)));
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,86 @@
+package site.paircoding.paircoding.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import site.paircoding.paircoding.entity.dto.ResourceUsageSample;
+
+class UsageTimeSeriesTest {
+
+  @Test
+  void emptySeries() {
+    UsageTimeSeries series = new UsageTimeSeries(3);
+
+    assertThat(series.latest()).isNull();
+    assertThat(series.snapshot(10)).isEmpty();
+  }
+
+  @Test
+  void keepsSamplesInOrderBelowCapacity() {
+    UsageTimeSeries series = filled(5, 3);
+
+    assertThat(series.snapshot(10)).extracting(ResourceUsageSample::timestamp)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(series.latest().timestamp()).isEqualTo(3);
+  }
+
+  @Test
+  void overwritesOldestSamplesWhenFull() {
+    UsageTimeSeries series = filled(3, 7);
+
+    assertThat(series.snapshot(10)).extracting(ResourceUsageSample::timestamp)
+        .containsExactly(5L, 6L, 7L);
+    assertThat(series.latest().timestamp()).isEqualTo(7);
+  }
+
+  @Test
+  void returnsAllSamplesWithoutPointLimit() {
+    assertThat(filled(4, 4).snapshot(0)).hasSize(4);
+  }
+
+  @Test
+  void averagesConsecutiveSamplesWhenDownsampling() {
+    // 10 개를 3 개로 줄이면 4 개씩 묶이고 마지막 버킷은 2 개
+    List<ResourceUsageSample> snapshot = filled(10, 10).snapshot(3);
+
+    assertThat(snapshot).extracting(ResourceUsageSample::timestamp)
+        .containsExactly(4L, 8L, 10L);
+    assertThat(snapshot).extracting(ResourceUsageSample::cpuMillicores)
+        .containsExactly(25L, 65L, 95L);
+    assertThat(snapshot).extracting(ResourceUsageSample::memoryBytes)
+        .containsExactly(250L, 650L, 950L);
+  }
+
+  @Test
+  void downsamplesInChronologicalOrderAfterWrapping() {
+    // 용량 4 에 6 개를 넣으면 3~6 만 남음
+    List<ResourceUsageSample> snapshot = filled(4, 6).snapshot(2);
+
+    assertThat(snapshot).extracting(ResourceUsageSample::timestamp)
+        .containsExactly(4L, 6L);
+    assertThat(snapshot).extracting(ResourceUsageSample::cpuMillicores)
+        .containsExactly(35L, 55L);
+  }
+
+  @Test
+  void averagesStorageOnlyOverCollectedSamples() {
+    UsageTimeSeries series = new UsageTimeSeries(4);
+    series.add(new ResourceUsageSample(1, 0, 0, 100L));
+    series.add(new ResourceUsageSample(2, 0, 0, null));
+    series.add(new ResourceUsageSample(3, 0, 0, null));
+    series.add(new ResourceUsageSample(4, 0, 0, null));
+
+    assertThat(series.snapshot(2)).extracting(ResourceUsageSample::storageBytes)
+        .containsExactly(100L, null);
+  }
+
+  // timestamp i, cpu i * 10, memory i * 100 인 샘플을 1 부터 count 개 추가
+  private UsageTimeSeries filled(int capacity, int count) {
+    UsageTimeSeries series = new UsageTimeSeries(capacity);
+    for (int i = 1; i <= count; i++) {
+      series.add(new ResourceUsageSample(i, i * 10L, i * 100L, null));
+    }
+    return series;
+  }
+}
@@ -46,9 +46,12 @@ create table project
     node_port      int          not null,
     run_command    varchar(255) not null,
     status         bit          not null,
+    provision_status varchar(20) not null default 'READY',
     group_id       int          not null,
     performance_id int          not null,
     image_tag      varchar(50)  not null,
+    constraint UK_project_container_id
+        unique (container_id),
     constraint FK3uxtobd6oe9ov8rtagsxx95x2
         foreign key (performance_id) references performance (id),
     constraint FKad1t7iofp6e362fj95pp03jqa
@@ -100,5 +103,46 @@ create table project_user
         foreign key (project_id) references project (id)
 );
 
+create table provisioning_job
+(
+    id              bigint auto_increment
+        primary key,
+    created_at      datetime(6)  null,
+    updated_at      datetime(6)  null,
+    project_id      int          not null,
+    group_id        int          not null,
+    deployment_name varchar(255) not null,
+    step            varchar(30)  not null,
+    status          varchar(20)  not null,
+    attempts        int          not null,
+    last_error      varchar(500) null,
+    lease_until     datetime(6)  null,
+    constraint UK_provisioning_job_project_id
+        unique (project_id)
+);
+
+create index IDX_provisioning_job_status
+    on provisioning_job (status, lease_until);
 
+create table outbox_event
+(
+    id              bigint auto_increment
+        primary key,
+    created_at      datetime(6)  null,
+    updated_at      datetime(6)  null,
+    event_key       varchar(36)  not null,
+    type            varchar(30)  not null,
+    project_id      int          not null,
+    group_id        int          not null,
+    deployment_name varchar(255) not null,
+    node_port       int          not null,
+    status          varchar(20)  not null,
+    attempts        int          not null,
+    last_error      varchar(500) null,
+    lease_until     datetime(6)  null,
+    constraint UK_outbox_event_event_key
+        unique (event_key)
+);
 
+create index IDX_outbox_event_status
+    on outbox_event (status, lease_until);